@@ -0,0 +1,74 @@
+package io.stxkxs.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.stxkxs.execute.serialization.Mapper;
+import io.stxkxs.model.aws.cloudwatch.ObservabilityConf;
+import io.stxkxs.model.aws.eks.KubernetesConf;
+import io.stxkxs.model.aws.eks.NodeGroup;
+import io.stxkxs.model.aws.eks.addon.AddonsConf;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binding of already rendered documents into the configuration types read on every EKS synth, with the default {@code Mapper.get()} and
+ * the blackbird backed {@code Mapper.fast()} profile side by side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+  private static final TypeReference<List<NodeGroup>> nodeGroups = new TypeReference<>() {};
+
+  @Param({"default", "fast"})
+  public String profile;
+
+  private ObjectMapper mapper;
+  private String kubernetes;
+  private String addons;
+  private String observability;
+  private String groups;
+
+  @Setup
+  public void setup() {
+    mapper = "fast".equals(profile) ? Mapper.fast() : Mapper.get();
+    kubernetes = Stub.resource("fixtures/kubernetes.yaml");
+    addons = Stub.resource("fixtures/addons.yaml");
+    observability = Stub.resource("fixtures/observability.yaml");
+    groups = Stub.resource("fixtures/node-groups.yaml");
+  }
+
+  @Benchmark
+  public KubernetesConf kubernetesConf() throws Exception {
+    return mapper.readValue(kubernetes, KubernetesConf.class);
+  }
+
+  @Benchmark
+  public AddonsConf addonsConf() throws Exception {
+    return mapper.readValue(addons, AddonsConf.class);
+  }
+
+  @Benchmark
+  public ObservabilityConf observabilityConf() throws Exception {
+    return mapper.readValue(observability, ObservabilityConf.class);
+  }
+
+  @Benchmark
+  public List<NodeGroup> nodeGroups() throws Exception {
+    return mapper.readValue(groups, nodeGroups);
+  }
+}
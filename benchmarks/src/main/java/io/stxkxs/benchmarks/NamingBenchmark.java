@@ -0,0 +1,55 @@
+package io.stxkxs.benchmarks;
+
+import io.stxkxs.execute.serialization.Format;
+import io.stxkxs.model._main.Common;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Naming helpers called for nearly every construct: {@code Format.id}/{@code name}/{@code named}, {@code Common.id} and
+ * {@code Common.Maps.from}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingBenchmark {
+  private final Map<String, String> base = Map.of("stxkxs:organization", "stxkxs", "stxkxs:environment", "prototype");
+  private final Map<String, String> overrides = Map.of("stxkxs:environment", "production", "stxkxs:component", "eks");
+
+  @Benchmark
+  public String formatId() {
+    return Format.id("eks", "node-group", "core");
+  }
+
+  @Benchmark
+  public String formatName() {
+    return Format.name("eks", "node-group", "core");
+  }
+
+  @Benchmark
+  public String formatNamed() {
+    return Format.named(Stub.context, "karpenter-node");
+  }
+
+  @Benchmark
+  public String commonId() {
+    return Common.id("xyz-eks-karpenter-interruption");
+  }
+
+  @Benchmark
+  public Map<String, String> mapsFrom() {
+    return Common.Maps.from(base, overrides);
+  }
+}
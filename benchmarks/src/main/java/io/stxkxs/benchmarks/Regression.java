@@ -0,0 +1,85 @@
+package io.stxkxs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against the checked in baseline and exits non-zero when any benchmark regressed by more than the
+ * threshold.
+ *
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar io.stxkxs.benchmarks.Regression benchmarks/baseline.json benchmarks/target/jmh.json 0.15
+ * }</pre>
+ *
+ * <p>
+ * Throughput results regress when the score drops, every other mode when it rises, by more than the threshold and by more than the
+ * combined score error of both runs, so a run on a noisy machine whose confidence intervals still overlap the baseline does not fail.
+ * A missing or empty baseline, or one that shares no benchmark with the current results, fails the comparison; individual benchmarks
+ * missing from the baseline are reported and do not.
+ */
+public final class Regression {
+
+  private Regression() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.err.println("usage: Regression <baseline.json> <current.json> [threshold]");
+      System.exit(2);
+    }
+
+    var threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+    var file = new File(args[0]);
+    var baseline = file.isFile() ? scores(file) : Map.<String, Result>of();
+    var current = scores(new File(args[1]));
+
+    if (baseline.isEmpty() || current.keySet().stream().noneMatch(baseline::containsKey)) {
+      System.err.printf("no baseline to compare against in %s! record one from a run on main with the jmh-results artifact.%n", file);
+      System.exit(1);
+    }
+
+    var regressions = new ArrayList<String>();
+    current.forEach((name, result) -> {
+      var base = baseline.get(name);
+      if (base == null) {
+        System.out.printf("%-70s %12.3f %-8s (no baseline)%n", name, result.score(), result.unit());
+        return;
+      }
+
+      var change = (result.score() - base.score()) / base.score();
+      var worse = result.throughput() ? -change : change;
+      var noise = (result.error() + base.error()) / base.score();
+
+      System.out.printf("%-70s %12.3f %-8s %+7.1f%% (+/-%.1f%%)%n", name, result.score(), result.unit(), change * 100, noise * 100);
+      if (worse > threshold && worse > noise) {
+        regressions.add(String.format("%s regressed %.1f%% [baseline: %.3f current: %.3f %s]", name, worse * 100, base.score(),
+          result.score(), result.unit()));
+      }
+    });
+
+    if (!regressions.isEmpty()) {
+      regressions.forEach(System.err::println);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Result> scores(File file) throws Exception {
+    var results = new HashMap<String, Result>();
+    for (JsonNode node : JsonMapper.builder().build().readTree(file)) {
+      var name = new StringBuilder(node.path("benchmark").asText());
+      node.path("params").properties().forEach(p -> name.append(':').append(p.getKey()).append('=').append(p.getValue().asText()));
+
+      var metric = node.path("primaryMetric");
+      var error = metric.path("scoreError").asDouble();
+      results.put(name.toString(), new Result(metric.path("score").asDouble(), Double.isNaN(error) ? 0 : error,
+        metric.path("scoreUnit").asText(), "thrpt".equals(node.path("mode").asText())));
+    }
+
+    return results;
+  }
+
+  private record Result(double score, double error, String unit, boolean throughput) {}
+}
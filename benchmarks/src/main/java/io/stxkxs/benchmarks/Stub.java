@@ -0,0 +1,35 @@
+package io.stxkxs.benchmarks;
+
+import io.stxkxs.execute.serialization.TemplateContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Stand-in for a construct scope: a fixed {@link TemplateContext} built from plain values, so benchmarks run without node or AWS.
+ */
+final class Stub {
+  static final TemplateContext context = TemplateContext.of(Map.ofEntries(Map.entry("home", "/"),
+    Map.entry("synthesizer:name", "bench"), Map.entry("host:id", "abc"), Map.entry("host:organization", "stxkxs"),
+    Map.entry("host:account", "000000000000"), Map.entry("host:region", "us-west-2"), Map.entry("host:name", "platform"),
+    Map.entry("host:alias", "plt"), Map.entry("host:environment", "prototype"), Map.entry("host:version", "v1"),
+    Map.entry("host:domain", "stxkxs.io"), Map.entry("hosted:id", "xyz"), Map.entry("hosted:organization", "stxkxs"),
+    Map.entry("hosted:account", "111111111111"), Map.entry("hosted:region", "us-west-2"), Map.entry("hosted:name", "service"),
+    Map.entry("hosted:alias", "svc"), Map.entry("hosted:environment", "prototype"), Map.entry("hosted:version", "v1"),
+    Map.entry("hosted:domain", "svc.stxkxs.io")));
+
+  private Stub() {}
+
+  static String resource(String path) {
+    try (var stream = Stub.class.getClassLoader().getResourceAsStream(path)) {
+      if (stream == null) {
+        throw new IllegalStateException(String.format("missing benchmark resource %s", path));
+      }
+
+      return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package io.stxkxs.benchmarks;
+
+import io.stxkxs.execute.serialization.Template;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code Template.parse} against small (a single resource), medium (a node group list) and large (helm values) templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+  @Param({"small", "medium", "large"})
+  public String size;
+
+  private String file;
+  private Map<String, Object> values;
+
+  @Setup
+  public void setup() {
+    file = String.format("benchmark/%s.mustache", size);
+    values = Map.of("queue", "karpenter-interruption", "workloads", workloads(40));
+  }
+
+  @Benchmark
+  public String parse() {
+    return Template.parse(Stub.context, file, values);
+  }
+
+  private static List<Map<String, Object>> workloads(int count) {
+    return IntStream.range(0, count)
+      .<Map<String, Object>>mapToObj(i -> Map.of("name", "workload-" + i, "namespace", "team-" + (i % 4), "replicas", 1 + (i % 3)))
+      .toList();
+  }
+}
@@ -22,6 +22,7 @@ import software.amazon.awscdk.services.apigateway.MethodOptions;
 import software.amazon.awscdk.services.apigateway.MethodResponse;
 import software.amazon.awscdk.services.apigateway.Model;
 import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.lambda.IFunction;
 import software.amazon.awscdk.services.lambda.LayerVersion;
 import software.constructs.Construct;
 
@@ -131,7 +132,7 @@ public class LambdaIntegrationConstruct {
   public static IResource get(Construct scope, Common common, String ref, Vpc vpc, RestApiConstruct stack, IResource parent,
     Map<String, Map<String, Model>> requestModels, LayerVersion... layers) {
     var conf = parse(scope, ref);
-    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc, layers).function();
+    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc, stack.architecture(), layers).handler();
 
     log.debug("{} [common: {} conf: {}]", "LambdaIntegrationConstruct", common, conf);
 
@@ -141,7 +142,7 @@ public class LambdaIntegrationConstruct {
   public static IResource get(Construct scope, Common common, Authorizer authorizer, String ref, Vpc vpc, RestApiConstruct stack,
     IResource parent, Map<String, Map<String, Model>> requestModels, LayerVersion baseLayer) {
     var conf = parse(scope, ref);
-    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc, baseLayer).function();
+    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc, stack.architecture(), baseLayer).handler();
 
     log.debug("{} [common: {} conf: {}]", "LambdaIntegrationConstruct", common, conf);
 
@@ -151,7 +152,7 @@ public class LambdaIntegrationConstruct {
   public static IResource get(Construct scope, Common common, Authorizer authorizer, String ref, Vpc vpc, RestApiConstruct stack,
     IResource parent, Map<String, Map<String, Model>> requestModels) {
     var conf = parse(scope, ref);
-    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc).function();
+    var fn = new LambdaConstruct(scope, common, conf.fn(), vpc, stack.architecture()).handler();
 
     log.debug("{} [common: {} conf: {}]", "LambdaIntegrationConstruct", common, conf);
 
@@ -159,7 +160,7 @@ public class LambdaIntegrationConstruct {
   }
 
   private static IResource integrate(Construct scope, Authorizer authorizer, RestApiConstruct stack, IResource parent,
-    Map<String, Map<String, Model>> requestModels, ApiGatewayLambda conf, software.amazon.awscdk.services.lambda.Function fn) {
+    Map<String, Map<String, Model>> requestModels, ApiGatewayLambda conf, IFunction fn) {
     conf.integration().forEach(i -> {
       var integration = LambdaIntegration.Builder.create(fn).allowTestInvoke(i.allowTestInvoke()).cacheNamespace(i.cacheNamespace())
         .cacheKeyParameters(i.cacheKeyParameters()).connectionType(i.connectionType()).passthroughBehavior(i.passthroughBehavior())
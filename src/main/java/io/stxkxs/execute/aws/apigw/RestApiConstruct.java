@@ -120,6 +120,7 @@ public class RestApiConstruct extends Construct {
   private final Map<String, RequestValidator> validators;
   private final Map<String, Map<String, Model>> requestModels;
   private final List<UsagePlanConstruct> usagePlan;
+  private final String architecture;
 
   public RestApiConstruct(Construct scope, Common common, ApiConf conf, ApiRequestSchema schema) {
     super(scope, id("rest.api", common.id(), conf.name()));
@@ -131,6 +132,7 @@ public class RestApiConstruct extends Construct {
     this.validators = getValidators(scope, conf);
     this.requestModels = getRequestModels(scope, conf, schema);
     this.usagePlan = usagePlans(common, conf);
+    this.architecture = conf.architecture();
   }
 
   public RestApiConstruct(Construct scope, Common common, ApiConf conf, Authorizer authorizer, ApiRequestSchema schema) {
@@ -143,6 +145,7 @@ public class RestApiConstruct extends Construct {
     this.validators = getValidators(scope, conf);
     this.requestModels = getRequestModels(scope, conf, schema);
     this.usagePlan = usagePlans(common, conf);
+    this.architecture = conf.architecture();
   }
 
   private @NotNull List<UsagePlanConstruct> usagePlans(Common common, ApiConf conf) {
@@ -3,6 +3,7 @@ package io.stxkxs.execute.aws.cloudwatch;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.aws.kms.KmsConstruct;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.cloudwatch.LogGroupConf;
@@ -10,7 +11,6 @@ import java.util.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.RemovalPolicy;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.logs.ILogGroup;
 import software.amazon.awscdk.services.logs.LogGroup;
 import software.amazon.awscdk.services.logs.LogGroupClass;
@@ -31,10 +31,10 @@ public class LogGroupConstruct extends Construct {
       .logGroupClass(LogGroupClass.valueOf(conf.type().toUpperCase())).retention(RetentionDays.valueOf(conf.retention().toUpperCase()))
       .removalPolicy(RemovalPolicy.valueOf(conf.removalPolicy().toUpperCase()));
 
-    Optional.ofNullable(conf.kms()).map(k -> new KmsConstruct(this, common, k).key()).map(builder::encryptionKey);
+    Optional.ofNullable(conf.kms()).map(k -> KmsConstruct.shared(this, common, k)).map(builder::encryptionKey);
 
     this.logGroup = builder.build();
 
-    Maps.from(conf.tags(), common.tags()).forEach((k, v) -> Tags.of(this.logGroup()).add(k, v));
+    Tagging.add(this.logGroup(), Maps.from(conf.tags(), common.tags()));
   }
 }
@@ -159,7 +159,7 @@ public class IdentityPoolConstruct extends Construct {
 
     log.debug("{} [common: {} conf: {}]", "IdentityPoolConstruct", common, conf);
 
-    this.authenticatedRole = new RoleConstruct(this, common, conf.authenticated()).role();
+    this.authenticatedRole = RoleConstruct.shared(this, common, conf.authenticated());
 
     this.identityPool =
       Builder.create(this, conf.name()).authenticatedRole(this.authenticatedRole()).unauthenticatedRole(null).identityPoolName(conf.name())
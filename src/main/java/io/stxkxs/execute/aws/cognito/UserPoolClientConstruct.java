@@ -4,6 +4,7 @@ import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.cognito.client.ClientAttributesConf;
@@ -14,7 +15,6 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.cognito.AuthFlow;
 import software.amazon.awscdk.services.cognito.ClientAttributes;
 import software.amazon.awscdk.services.cognito.OAuthFlows;
@@ -57,7 +57,7 @@ public class UserPoolClientConstruct extends Construct {
           .userSrp(conf.authFlow().userSrp()).custom(conf.authFlow().custom()).build())
         .build());
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(parent).add(key, value));
+    Tagging.add(parent, Maps.from(common.tags(), conf.tags()));
   }
 
   private static ClientAttributes attributes(ClientAttributesConf conf, List<String> customAttributes) {
@@ -4,6 +4,7 @@ import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.cognito.userpool.CustomAttribute;
@@ -21,7 +22,6 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.RemovalPolicy;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.cognito.AccountRecovery;
 import software.amazon.awscdk.services.cognito.AutoVerifiedAttrs;
 import software.amazon.awscdk.services.cognito.CfnUserPoolGroup;
@@ -149,7 +149,7 @@ public class UserPoolConstruct extends Construct {
     this.groups = userPoolConf.groups().stream().map(group -> CfnUserPoolGroup.Builder.create(this, group.name()).groupName(group.name())
       .userPoolId(this.userPool().getUserPoolId()).description(group.description()).precedence(group.precedence()).build()).toList();
 
-    Maps.from(common.tags(), userPoolConf.tags()).forEach((key, value) -> Tags.of(this.userPool()).add(key, value));
+    Tagging.add(this.userPool(), Maps.from(common.tags(), userPoolConf.tags()));
   }
 
   private Map<String, ? extends ICustomAttribute> customAttributes(List<CustomAttribute> customAttributes) {
@@ -25,7 +25,7 @@ public class UserPoolSnsConstruct {
 
     log.debug("{} [common: {} conf: {}]", "UserPoolSnsConstruct", common, conf);
 
-    this.role = new RoleConstruct(scope, common, snsConf.role()).role();
+    this.role = RoleConstruct.shared(scope, common, snsConf.role());
     this.externalId = snsConf.externalId();
   }
 }
@@ -3,6 +3,7 @@ package io.stxkxs.execute.aws.cognito;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.aws.lambda.LambdaConstruct;
+import io.stxkxs.execute.aws.lambda.LayerConstruct;
 import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
@@ -10,6 +11,8 @@ import io.stxkxs.model.aws.cognito.userpool.Triggers;
 import io.stxkxs.model.aws.cognito.userpool.UserPoolConf;
 import io.stxkxs.model.aws.fn.Lambda;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +20,8 @@ import org.jetbrains.annotations.Nullable;
 import software.amazon.awscdk.services.cognito.UserPoolTriggers;
 import software.amazon.awscdk.services.ec2.IVpc;
 import software.amazon.awscdk.services.lambda.Architecture;
-import software.amazon.awscdk.services.lambda.Code;
 import software.amazon.awscdk.services.lambda.IFunction;
-import software.amazon.awscdk.services.lambda.LayerVersion;
-import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.lambda.ILayerVersion;
 import software.constructs.Construct;
 
 @Slf4j
@@ -35,10 +36,7 @@ public class UserPoolTriggersConstruct {
     var triggersYaml = Template.parse(scope, conf.triggers());
     var triggers = Mapper.get().readValue(triggersYaml, Triggers.class);
 
-    var baseLayer = LayerVersion.Builder.create(scope, id("layer", triggers.base().name())).layerVersionName(triggers.base().name())
-      .code(Code.fromAsset(triggers.base().asset())).removalPolicy(triggers.base().removalPolicy())
-      .compatibleArchitectures(List.of(Architecture.X86_64))
-      .compatibleRuntimes(triggers.base().runtimes().stream().map(r -> Runtime.Builder.create(r).build()).toList()).build();
+    var baseLayer = LayerConstruct.shared(scope, id("layer", triggers.base().name()), triggers.base(), architectures(triggers));
 
     this.triggers = UserPoolTriggers.builder().customMessage(maybe(scope, common, vpc, triggers.customMessage(), baseLayer))
       .preSignUp(maybe(scope, common, vpc, triggers.preSignUp(), baseLayer))
@@ -46,7 +44,17 @@ public class UserPoolTriggersConstruct {
       .postAuthentication(maybe(scope, common, vpc, triggers.postAuthentication(), baseLayer)).build();
   }
 
-  private static @Nullable IFunction maybe(Construct scope, Common common, IVpc vpc, Lambda lambda, LayerVersion baseLayer) {
-    return lambda != null ? new LambdaConstruct(scope, common, lambda, vpc, baseLayer).function() : null;
+  private static @Nullable IFunction maybe(Construct scope, Common common, IVpc vpc, Lambda lambda, ILayerVersion baseLayer) {
+    return lambda != null ? new LambdaConstruct(scope, common, lambda, vpc, baseLayer).handler() : null;
+  }
+
+  /**
+   * The base layer is shared by every trigger, so it is published for each architecture they run on.
+   */
+  private static List<Architecture> architectures(Triggers triggers) {
+    var lambdas = Stream.of(triggers.preSignUp(), triggers.customMessage(), triggers.postConfirmation(), triggers.postAuthentication());
+    var architectures = lambdas.filter(Objects::nonNull).map(lambda -> LambdaConstruct.architecture(lambda.architecture())).distinct()
+      .toList();
+    return architectures.isEmpty() ? List.of(Architecture.X86_64) : architectures;
   }
 }
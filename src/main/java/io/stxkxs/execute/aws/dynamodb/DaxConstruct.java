@@ -0,0 +1,132 @@
+package io.stxkxs.execute.aws.dynamodb;
+
+import static io.stxkxs.execute.serialization.Format.id;
+
+import io.stxkxs.execute.aws.vpc.SecurityGroupConstruct;
+import io.stxkxs.execute.tags.Tagging;
+import io.stxkxs.model._main.Common;
+import io.stxkxs.model._main.Common.Maps;
+import io.stxkxs.model.aws.dynamodb.Dax;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.dax.CfnCluster;
+import software.amazon.awscdk.services.dax.CfnParameterGroup;
+import software.amazon.awscdk.services.dax.CfnSubnetGroup;
+import software.amazon.awscdk.services.dynamodb.ITableV2;
+import software.amazon.awscdk.services.ec2.ISecurityGroup;
+import software.amazon.awscdk.services.ec2.Port;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.iam.Grant;
+import software.amazon.awscdk.services.iam.GrantOnPrincipalOptions;
+import software.amazon.awscdk.services.iam.IGrantable;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.lambda.Function;
+import software.constructs.Construct;
+
+/**
+ * DynamoDB Accelerator (DAX) cluster in front of a table.
+ *
+ * <p>
+ * Reads served from the DAX item and query caches return in microseconds instead of the single-digit milliseconds of DynamoDB, which
+ * matters for hot keys. The cluster is placed in the {@code subnetType} subnets of the vpc (private with egress by default), encrypts data
+ * at rest and in transit (TLS on port 9111), and assumes a role that can only read and write the table and its indexes. The
+ * {@code recordTtl} and {@code queryTtl} are in milliseconds and default to DAX's five minutes. {@code replicationFactor} is the number of
+ * nodes, from 1 to 11, and defaults to 3 so the cluster spans availability zones.
+ *
+ * <p>
+ * {@link #connect(Function)} gives a function everything it needs to use the cluster: the {@code DAX_ENDPOINT} and {@code DAX_CLUSTER}
+ * environment variables, permission to call it and ingress through the cluster security group.
+ *
+ * <pre>{@code
+ * dax:
+ *   name: orders-dax
+ *   nodeType: dax.r5.large
+ *   replicationFactor: 3
+ *   recordTtl: 60000
+ *   queryTtl: 10000
+ * }</pre>
+ */
+@Slf4j
+@Getter
+public class DaxConstruct extends Construct {
+  private static final int PORT = 9111;
+  private static final List<String> ACTIONS = List.of("dax:GetItem", "dax:BatchGetItem", "dax:Query", "dax:Scan", "dax:PutItem",
+    "dax:UpdateItem", "dax:DeleteItem", "dax:BatchWriteItem", "dax:ConditionCheckItem", "dax:DescribeClusters");
+
+  private final CfnCluster cluster;
+  private final ISecurityGroup securityGroup;
+  private final Role role;
+
+  public DaxConstruct(Construct scope, Common common, Dax conf, ITableV2 table, Vpc vpc) {
+    super(scope, id("dax", conf.name()));
+
+    log.debug("{} [common: {} conf: {}]", "DaxConstruct", common, conf);
+
+    var replicationFactor = Optional.ofNullable(conf.replicationFactor()).orElse(3);
+    if (replicationFactor < 1 || replicationFactor > 11) {
+      var m = String.format("error creating dax cluster %s! replicationFactor must be between 1 and 11, got %s.", conf.name(),
+        replicationFactor);
+      throw new RuntimeException(m);
+    }
+
+    this.role = Role.Builder.create(this, id("dax.role", conf.name())).assumedBy(new ServicePrincipal("dax.amazonaws.com"))
+      .description(String.format("dax cluster %s access to %s", conf.name(), table.getTableName())).build();
+    table.grantReadWriteData(this.role());
+
+    this.securityGroup = Optional.ofNullable(conf.securityGroup())
+      .map(securityGroup -> (ISecurityGroup) new SecurityGroupConstruct(this, common, securityGroup, vpc).securityGroup())
+      .orElseGet(() -> SecurityGroup.Builder.create(this, id("dax.sg", conf.name())).vpc(vpc)
+        .description(String.format("dax cluster %s", conf.name())).allowAllOutbound(true).build());
+
+    var subnetType = SubnetType.valueOf(Optional.ofNullable(conf.subnetType()).orElse("PRIVATE_WITH_EGRESS").toUpperCase());
+    var subnetGroup = CfnSubnetGroup.Builder.create(this, id("dax.subnets", conf.name())).subnetGroupName(conf.name())
+      .description(String.format("dax cluster %s subnets", conf.name()))
+      .subnetIds(vpc.selectSubnets(SubnetSelection.builder().subnetType(subnetType).build()).getSubnetIds()).build();
+
+    var parameterGroup = CfnParameterGroup.Builder.create(this, id("dax.parameters", conf.name())).parameterGroupName(conf.name())
+      .description(String.format("dax cluster %s cache ttls", conf.name()))
+      .parameterNameValues(Map.of("record-ttl-millis", String.valueOf(Optional.ofNullable(conf.recordTtl()).orElse(300000L)),
+        "query-ttl-millis", String.valueOf(Optional.ofNullable(conf.queryTtl()).orElse(300000L))))
+      .build();
+
+    this.cluster = CfnCluster.Builder.create(this, conf.name()).clusterName(conf.name()).description(conf.description())
+      .nodeType(conf.nodeType()).replicationFactor(replicationFactor).iamRoleArn(this.role().getRoleArn())
+      .subnetGroupName(subnetGroup.getRef()).parameterGroupName(parameterGroup.getRef())
+      .securityGroupIds(List.of(this.securityGroup().getSecurityGroupId())).clusterEndpointEncryptionType("TLS")
+      .sseSpecification(CfnCluster.SSESpecificationProperty.builder().sseEnabled(true).build()).build();
+
+    this.cluster().addDependency(subnetGroup);
+    this.cluster().addDependency(parameterGroup);
+
+    Tagging.add(this, Maps.from(common.tags(), conf.tags()));
+  }
+
+  /**
+   * The cluster discovery endpoint ({@code daxs://...}) and name, to hand to a DAX client.
+   */
+  public Map<String, String> environment() {
+    return Map.of("DAX_ENDPOINT", cluster.getAttrClusterDiscoveryEndpointUrl(), "DAX_CLUSTER", cluster.getClusterName());
+  }
+
+  public Grant grant(IGrantable grantee) {
+    return Grant.addToPrincipal(
+      GrantOnPrincipalOptions.builder().grantee(grantee).actions(ACTIONS).resourceArns(List.of(cluster.getAttrArn())).build());
+  }
+
+  /**
+   * Points {@code function} at the cluster: adds the endpoint to its environment, grants it access and opens the cluster port to it.
+   */
+  public void connect(Function function) {
+    environment().forEach(function::addEnvironment);
+    grant(function);
+    this.securityGroup().getConnections().allowFrom(function, Port.tcp(PORT),
+      String.format("dax access from %s", function.getNode().getId()));
+  }
+}
@@ -7,7 +7,14 @@ import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.dynamodb.Index;
 import io.stxkxs.model.aws.dynamodb.Owner;
+import io.stxkxs.model.aws.dynamodb.Provisioned;
+import io.stxkxs.model.aws.dynamodb.Replica;
 import io.stxkxs.model.aws.dynamodb.Table;
+import io.stxkxs.model.aws.dynamodb.Throughput;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
@@ -20,12 +27,17 @@ import software.amazon.awscdk.services.dynamodb.Billing;
 import software.amazon.awscdk.services.dynamodb.Capacity;
 import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexPropsV2;
 import software.amazon.awscdk.services.dynamodb.LocalSecondaryIndexProps;
+import software.amazon.awscdk.services.dynamodb.MaxThroughputProps;
+import software.amazon.awscdk.services.dynamodb.ReplicaGlobalSecondaryIndexOptions;
+import software.amazon.awscdk.services.dynamodb.ReplicaTableProps;
 import software.amazon.awscdk.services.dynamodb.StreamViewType;
 import software.amazon.awscdk.services.dynamodb.TableClass;
 import software.amazon.awscdk.services.dynamodb.TableEncryptionV2;
 import software.amazon.awscdk.services.dynamodb.TableV2;
 import software.amazon.awscdk.services.dynamodb.TableV2.Builder;
 import software.amazon.awscdk.services.dynamodb.ThroughputProps;
+import software.amazon.awscdk.services.dynamodb.WarmThroughput;
+import software.amazon.awscdk.services.ec2.Vpc;
 import software.amazon.awscdk.services.kinesis.Stream;
 import software.amazon.awscdk.services.kinesis.StreamEncryption;
 import software.amazon.awscdk.services.kinesis.StreamMode;
@@ -47,6 +59,9 @@ import software.constructs.Construct;
  * <li><b>Backup & Recovery</b> - Point-in-time recovery and backup vault integration</li>
  * <li><b>Auto-scaling</b> - Dynamic capacity scaling based on utilization</li>
  * <li><b>Streaming</b> - DynamoDB Streams for change data capture</li>
+ * <li><b>Global Tables</b> - Replicas in other regions with their own read capacity, per table and per index, and their own key when the
+ * table uses a customer-managed key</li>
+ * <li><b>Throughput Limits</b> - On-demand max throughput caps and warm throughput pre-provisioned for launch spikes</li>
  * </ul>
  *
  * <p>
@@ -66,7 +81,7 @@ import software.constructs.Construct;
  * <li><b>Global Secondary Indexes</b> - Independent partition/sort keys with separate capacity</li>
  * <li><b>Local Secondary Indexes</b> - Alternative sort key sharing partition key</li>
  * <li><b>Projection Types</b> - Keys only, include specific attributes, or all attributes</li>
- * <li><b>Auto-scaling</b> - Independent scaling policies per index</li>
+ * <li><b>Auto-scaling</b> - Independent read/write scaling, max and warm throughput per index</li>
  * </ul>
  *
  * <p>
@@ -96,6 +111,10 @@ import software.constructs.Construct;
  * // - KMS encryption and backup policies
  * // - Auto-scaling for table and indexes
  * // - DynamoDB Streams (if enabled)
+ *
+ * // With a DAX read cache in front of the table, handed to a function
+ * DynamoDbConstruct cached = new DynamoDbConstruct(this, common, tableConfig, vpc);
+ * cached.dax().connect(lambda.function());
  * }</pre>
  *
  * @author CDK Common Framework
@@ -103,14 +122,23 @@ import software.constructs.Construct;
  * @see GlobalSecondaryIndexPropsV2 for GSI configuration
  * @see LocalSecondaryIndexProps for LSI configuration
  * @see KmsConstruct for encryption key management
+ * @see DaxConstruct for the DAX read cache
  * @since 1.0.0
  */
 @Slf4j
 @Getter
 public class DynamoDbConstruct extends Construct {
   private final TableV2 table;
+  private final DaxConstruct dax;
 
   public DynamoDbConstruct(Construct scope, Common common, Table conf) {
+    this(scope, common, conf, null);
+  }
+
+  /**
+   * Also builds the {@code dax} cluster of {@code conf}, if any, in {@code vpc}.
+   */
+  public DynamoDbConstruct(Construct scope, Common common, Table conf, Vpc vpc) {
     super(scope, id("dynamodb", conf.name()));
 
     log.debug("{} [common: {} conf: {}]", "DynamoDbConstruct", common, conf);
@@ -129,12 +157,34 @@ public class DynamoDbConstruct extends Construct {
     billing(conf, table);
     streams(common, conf, table);
 
+    Optional.ofNullable(conf.warmThroughput()).ifPresent(warm -> table.warmThroughput(warmThroughput(warm)));
+    Optional.ofNullable(conf.replicas()).filter(replicas -> !replicas.isEmpty())
+      .ifPresent(replicas -> table.replicas(replicas.stream().map(DynamoDbConstruct::replica).toList()));
+
     this.table = table.build();
+    this.dax = dax(common, conf, vpc);
+  }
+
+  private DaxConstruct dax(Common common, Table conf, Vpc vpc) {
+    if (conf.dax() == null) {
+      return null;
+    }
+
+    if (vpc == null) {
+      var m = String.format("error creating dax cluster for %s! a vpc is required.", conf.name());
+      throw new RuntimeException(m);
+    }
+
+    return new DaxConstruct(this, common, conf.dax(), this.table(), vpc);
   }
 
   private static GlobalSecondaryIndexPropsV2 globalSecondaryIndex(Index index) {
     var gsi = GlobalSecondaryIndexPropsV2.builder().indexName(index.name()).projectionType(index.projectionType());
 
+    if (index.partitionKey() != null) {
+      gsi.partitionKey(Attribute.builder().name(index.partitionKey().name()).type(index.partitionKey().type()).build());
+    }
+
     if (index.sortKey() != null) {
       gsi.sortKey(Attribute.builder().name(index.sortKey().name()).type(index.sortKey().type()).build());
     }
@@ -143,6 +193,18 @@ public class DynamoDbConstruct extends Construct {
       gsi.nonKeyAttributes(index.nonKeyAttributes());
     }
 
+    if (index.capacity() != null) {
+      gsi.readCapacity(autoscaled(index.capacity().read())).writeCapacity(autoscaled(index.capacity().write()));
+    }
+
+    if (index.maxThroughput() != null) {
+      gsi.maxReadRequestUnits(index.maxThroughput().read()).maxWriteRequestUnits(index.maxThroughput().write());
+    }
+
+    if (index.warmThroughput() != null) {
+      gsi.warmThroughput(warmThroughput(index.warmThroughput()));
+    }
+
     return gsi.build();
   }
 
@@ -169,8 +231,7 @@ public class DynamoDbConstruct extends Construct {
 
       var encryption = StreamEncryption.valueOf(kinesis.encryption().toUpperCase());
       if (encryption.equals(StreamEncryption.KMS)) {
-        var kms = new KmsConstruct(this, common, kinesis.kms());
-        stream.encryptionKey(kms.key());
+        stream.encryptionKey(KmsConstruct.shared(this, common, kinesis.kms()));
       }
 
       table.kinesisStream(stream.build());
@@ -187,23 +248,19 @@ public class DynamoDbConstruct extends Construct {
 
     if (ok) {
       if (conf.billing().onDemand()) {
-        table.billing(Billing.onDemand());
+        table.billing(Optional.ofNullable(conf.billing().maxThroughput()).map(
+          max -> Billing.onDemand(MaxThroughputProps.builder().maxReadRequestUnits(max.read()).maxWriteRequestUnits(max.write()).build()))
+          .orElseGet(Billing::onDemand));
       }
 
       if (conf.billing().provisioned() != null) {
-        table.billing(Billing.provisioned(ThroughputProps.builder()
-          .readCapacity(Capacity.autoscaled(AutoscaledCapacityOptions.builder().minCapacity(conf.billing().provisioned().read().min())
-            .maxCapacity(conf.billing().provisioned().read().max()).seedCapacity(conf.billing().provisioned().read().seed())
-            .targetUtilizationPercent(conf.billing().provisioned().read().targetUtilizationPercent()).build()))
-          .writeCapacity(Capacity.autoscaled(AutoscaledCapacityOptions.builder().minCapacity(conf.billing().provisioned().write().min())
-            .maxCapacity(conf.billing().provisioned().write().max()).seedCapacity(conf.billing().provisioned().write().seed())
-            .targetUtilizationPercent(conf.billing().provisioned().write().targetUtilizationPercent()).build()))
-          .build()));
-
-        if (conf.billing().fixed() != null) {
-          table.billing(Billing.provisioned(ThroughputProps.builder().readCapacity(Capacity.fixed(conf.billing().fixed().read()))
-            .writeCapacity(Capacity.fixed(conf.billing().fixed().write())).build()));
-        }
+        table.billing(Billing.provisioned(ThroughputProps.builder().readCapacity(autoscaled(conf.billing().provisioned().read()))
+          .writeCapacity(autoscaled(conf.billing().provisioned().write())).build()));
+      }
+
+      if (conf.billing().fixed() != null) {
+        table.billing(Billing.provisioned(ThroughputProps.builder().readCapacity(Capacity.fixed(conf.billing().fixed().read()))
+          .writeCapacity(pinned(conf.billing().fixed().write())).build()));
       }
     } else {
       log.error("unable to determine billing type for dynamodb. using the 'ondemand' default.");
@@ -211,6 +268,42 @@ public class DynamoDbConstruct extends Construct {
     }
   }
 
+  private static Capacity autoscaled(Provisioned conf) {
+    return Capacity.autoscaled(AutoscaledCapacityOptions.builder().minCapacity(conf.min()).maxCapacity(conf.max()).seedCapacity(conf.seed())
+      .targetUtilizationPercent(conf.targetUtilizationPercent()).build());
+  }
+
+  /**
+   * {@code TableV2} only takes autoscaled write capacity, so a fixed write capacity is an autoscaling range of a single value.
+   */
+  private static Capacity pinned(int capacity) {
+    return Capacity.autoscaled(AutoscaledCapacityOptions.builder().minCapacity(capacity).maxCapacity(capacity).build());
+  }
+
+  private static WarmThroughput warmThroughput(Throughput conf) {
+    return WarmThroughput.builder().readUnitsPerSecond(conf.read()).writeUnitsPerSecond(conf.write()).build();
+  }
+
+  /**
+   * Replicas turn the table into a global table with a copy in each region, so reads are served locally. Provisioned replicas scale their
+   * own read capacity, table-wide and per index; on-demand replicas can cap their reads.
+   */
+  private static ReplicaTableProps replica(Replica replica) {
+    var props = ReplicaTableProps.builder().region(replica.region()).deletionProtection(replica.deletionProtection())
+      .pointInTimeRecovery(replica.pointInTimeRecovery()).contributorInsights(replica.contributorInsights())
+      .maxReadRequestUnits(replica.maxRead());
+
+    Optional.ofNullable(replica.read()).ifPresent(read -> props.readCapacity(autoscaled(read)));
+    Optional.ofNullable(replica.indexRead()).filter(indexes -> !indexes.isEmpty())
+      .ifPresent(indexes -> props.globalSecondaryIndexOptions(indexes.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+        entry -> ReplicaGlobalSecondaryIndexOptions.builder().readCapacity(autoscaled(entry.getValue())).build()))));
+
+    return props.build();
+  }
+
+  /**
+   * A customer-managed key only exists in the stack's region, so every replica must name the {@code kmsKeyArn} of a key in its own region.
+   */
   private void encryption(Common common, Table conf, Builder table) {
     if (conf.encryption().enabled()) {
       var owner = Owner.of(conf.encryption().owner().toUpperCase());
@@ -219,14 +312,25 @@ public class DynamoDbConstruct extends Construct {
       } else if (owner.equals(Owner.DYNAMODB)) {
         table.encryption(TableEncryptionV2.dynamoOwnedKey());
       } else if (owner.equals(Owner.SELF) && conf.encryption().kms() != null) {
-        var kms = new KmsConstruct(this, common, conf.encryption().kms()).key();
-        table.encryption(TableEncryptionV2.customerManagedKey(kms));
+        var kms = KmsConstruct.shared(this, common, conf.encryption().kms());
+        table.encryption(TableEncryptionV2.customerManagedKey(kms, replicaKeyArns(conf)));
       } else {
         log.error("something went wrong while determining the dynamodb encryption key. encryption will be" + " disabled.");
       }
     }
   }
 
+  private static Map<String, String> replicaKeyArns(Table conf) {
+    var replicas = Optional.ofNullable(conf.replicas()).orElse(List.of());
+    replicas.stream().filter(replica -> replica.kmsKeyArn() == null).findFirst().ifPresent(replica -> {
+      var m = String.format("error creating dynamodb table %s! replica %s needs a kmsKeyArn when the table uses a customer-managed key.",
+        conf.name(), replica.region());
+      throw new RuntimeException(m);
+    });
+
+    return replicas.stream().collect(Collectors.toMap(Replica::region, Replica::kmsKeyArn));
+  }
+
   private void sortKey(Table conf, Builder table) {
     if (conf.sortKey() != null && conf.sortKey().name() != null && conf.sortKey().type() != null) {
       table.sortKey(Attribute.builder().name(conf.sortKey().name()).type(conf.sortKey().type()).build());
@@ -3,11 +3,11 @@ package io.stxkxs.execute.aws.ecr;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.aws.kms.KmsConstruct;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.ecr.EcrRepository;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ecr.Repository;
 import software.amazon.awscdk.services.ecr.RepositoryEncryption;
 import software.constructs.Construct;
@@ -28,7 +28,7 @@ public class EcrRepositoryConstruct extends Construct {
     if (conf.encryption().enabled()) {
       if (conf.encryption().kms() != null) {
         ecr.encryption(RepositoryEncryption.KMS);
-        ecr.encryptionKey(new KmsConstruct(this, common, conf.encryption().kms()).key());
+        ecr.encryptionKey(KmsConstruct.shared(this, common, conf.encryption().kms()));
       } else {
         ecr.encryption(RepositoryEncryption.AES_256);
       }
@@ -36,6 +36,6 @@ public class EcrRepositoryConstruct extends Construct {
 
     this.repository = ecr.build();
 
-    common.tags().forEach((k, v) -> Tags.of(this.repository()).add(k, v));
+    Tagging.add(this.repository(), common.tags());
   }
 }
@@ -8,14 +8,18 @@ import io.stxkxs.execute.aws.eks.addon.AwsSecretsStoreConstruct;
 import io.stxkxs.execute.aws.eks.addon.CertManagerConstruct;
 import io.stxkxs.execute.aws.eks.addon.CsiSecretsStoreConstruct;
 import io.stxkxs.execute.aws.eks.addon.GrafanaConstruct;
+import io.stxkxs.execute.aws.eks.addon.HelmValues;
 import io.stxkxs.execute.aws.eks.addon.KarpenterConstruct;
-import io.stxkxs.execute.serialization.Mapper;
-import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.serialization.ConfigLoader;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.eks.KubernetesConf;
 import io.stxkxs.model.aws.eks.addon.AddonsConf;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.services.eks.Cluster;
 import software.constructs.Construct;
@@ -31,33 +35,114 @@ public class AddonsConstruct extends Construct {
   private final KarpenterConstruct karpenter;
   private final AwsLoadBalancerConstruct awsLoadBalancer;
 
-  @SneakyThrows
   public AddonsConstruct(Construct scope, Common common, KubernetesConf conf, Cluster cluster) {
+    this(scope, common, conf, ConfigLoader.load(scope, conf.addons(), AddonsConf.class), null, cluster);
+  }
+
+  /**
+   * Builds the addons from an already bound {@link AddonsConf} and, when given, Helm values pre-rendered with
+   * {@link HelmValues#render(Construct, io.stxkxs.execute.serialization.ConfigBatch, AddonsConf)}. Without values they are rendered
+   * inline.
+   */
+  public AddonsConstruct(Construct scope, Common common, KubernetesConf conf, AddonsConf addons, HelmValues values, Cluster cluster) {
     super(scope, id("eks.addons", conf.name()));
 
     log.debug("{} [common: {} conf: {}]", "AddonsConstruct", common, conf);
 
-    var addons = Mapper.get().readValue(Template.parse(scope, conf.addons()), AddonsConf.class);
+    var helm = values != null ? values : HelmValues.render(scope, addons);
 
-    this.alloyOperator = new AlloyOperatorConstruct(this, common, addons.alloyOperator(), cluster);
+    this.alloyOperator =
+      new AlloyOperatorConstruct(this, common, addons.alloyOperator(), cluster, helm.get(addons.alloyOperator().chart()));
+    this.grafana = new GrafanaConstruct(this, common, addons.grafana(), cluster, helm.get(addons.grafana().chart()));
+    this.certManager = new CertManagerConstruct(this, common, addons.certManager(), cluster, helm.get(addons.certManager().chart()));
+    this.csiSecretsStore = new CsiSecretsStoreConstruct(this, common, addons.csiSecretsStore(), cluster,
+      helm.get(addons.csiSecretsStore().chart()));
+    this.awsSecretsStore = new AwsSecretsStoreConstruct(this, common, addons.awsSecretsStore(), cluster);
+    this.karpenter = new KarpenterConstruct(this, common, addons.karpenter(), cluster, helm.get(addons.karpenter().chart()));
+    this.awsLoadBalancer = new AwsLoadBalancerConstruct(this, common, addons.awsLoadBalancer(), cluster,
+      helm.get(addons.awsLoadBalancer().chart()));
 
-    this.grafana = new GrafanaConstruct(this, common, addons.grafana(), cluster);
-    this.grafana().getNode().addDependency(this.alloyOperator());
+    dependencies(addons);
+  }
 
-    this.certManager = new CertManagerConstruct(this, common, addons.certManager(), cluster);
-    this.certManager().getNode().addDependency(this.grafana());
+  /**
+   * Orders the Helm releases along {@link #graph(AddonsConf)}.
+   */
+  private void dependencies(AddonsConf addons) {
+    var constructs = new LinkedHashMap<String, Construct>();
+    constructs.put("alloyOperator", this.alloyOperator());
+    constructs.put("grafana", this.grafana());
+    constructs.put("certManager", this.certManager());
+    constructs.put("csiSecretsStore", this.csiSecretsStore());
+    constructs.put("awsSecretsStore", this.awsSecretsStore());
+    constructs.put("karpenter", this.karpenter());
+    constructs.put("awsLoadBalancer", this.awsLoadBalancer());
 
-    this.csiSecretsStore = new CsiSecretsStoreConstruct(this, common, addons.csiSecretsStore(), cluster);
-    this.csiSecretsStore().getNode().addDependency(this.grafana(), this.certManager());
+    var graph = graph(addons);
+    var waves = waves(graph);
+    log.debug("addon rollout waves {}", waves);
 
-    this.awsSecretsStore = new AwsSecretsStoreConstruct(this, common, addons.awsSecretsStore(), cluster);
-    this.awsSecretsStore().getNode().addDependency(this.grafana(), this.certManager(), this.csiSecretsStore());
+    graph.forEach((name, dependsOn) -> dependsOn
+      .forEach(dependency -> constructs.get(name).getNode().addDependency(constructs.get(dependency))));
+  }
+
+  /**
+   * The addons each addon waits for, named after the {@link AddonsConf} properties, e.g. {@code certManager}. An addon that declares a
+   * non-empty {@code dependsOn} waits only for those, so charts that do not depend on each other roll out at the same time and bring-up
+   * takes as long as the longest path. The mapper binds an absent {@code dependsOn} as an empty list, so an addon that declares none keeps
+   * its edges from the original sequential order.
+   */
+  public static Map<String, List<String>> graph(AddonsConf addons) {
+    var sequential = new LinkedHashMap<String, List<String>>();
+    sequential.put("alloyOperator", List.of());
+    sequential.put("grafana", List.of("alloyOperator"));
+    sequential.put("certManager", List.of("grafana"));
+    sequential.put("csiSecretsStore", List.of("grafana", "certManager"));
+    sequential.put("awsSecretsStore", List.of("grafana", "certManager", "csiSecretsStore"));
+    sequential.put("karpenter", List.of("grafana", "certManager", "csiSecretsStore", "awsSecretsStore"));
+    sequential.put("awsLoadBalancer", List.of("grafana", "certManager", "csiSecretsStore", "awsSecretsStore", "karpenter"));
+
+    var declared = new LinkedHashMap<String, List<String>>();
+    declared.put("alloyOperator", addons.alloyOperator().dependsOn());
+    declared.put("grafana", addons.grafana().dependsOn());
+    declared.put("certManager", addons.certManager().dependsOn());
+    declared.put("csiSecretsStore", addons.csiSecretsStore().dependsOn());
+    declared.put("awsSecretsStore", addons.awsSecretsStore().dependsOn());
+    declared.put("karpenter", addons.karpenter().dependsOn());
+    declared.put("awsLoadBalancer", addons.awsLoadBalancer().dependsOn());
+
+    var graph = new LinkedHashMap<String, List<String>>();
+    declared.forEach((name, dependsOn) -> graph.put(name,
+      dependsOn == null || dependsOn.isEmpty() ? sequential.get(name) : dependsOn));
+    return graph;
+  }
+
+  /**
+   * Groups the addons into waves that can roll out together, failing on unknown dependencies and cycles.
+   */
+  private static List<List<String>> waves(Map<String, List<String>> graph) {
+    graph.forEach((name, dependsOn) -> dependsOn.stream().filter(dependency -> !graph.containsKey(dependency)).findFirst()
+      .ifPresent(dependency -> {
+        var m = String.format("error ordering eks addons! %s depends on unknown addon %s, expected one of %s.", name, dependency,
+          graph.keySet());
+        throw new RuntimeException(m);
+      }));
+
+    var waves = new ArrayList<List<String>>();
+    var remaining = new LinkedHashMap<>(graph);
+    var done = new HashSet<String>();
+    while (!remaining.isEmpty()) {
+      var wave = remaining.entrySet().stream().filter(e -> done.containsAll(e.getValue())).map(Map.Entry::getKey).toList();
+      if (wave.isEmpty()) {
+        var m = String.format("error ordering eks addons! dependency cycle between %s.", remaining.keySet());
+        throw new RuntimeException(m);
+      }
 
-    this.karpenter = new KarpenterConstruct(this, common, addons.karpenter(), cluster);
-    this.karpenter().getNode().addDependency(this.grafana(), this.certManager(), this.csiSecretsStore(), this.awsSecretsStore());
+      wave.forEach(remaining::remove);
+      done.addAll(wave);
+      waves.add(wave);
+    }
 
-    this.awsLoadBalancer = new AwsLoadBalancerConstruct(this, common, addons.awsLoadBalancer(), cluster);
-    this.awsLoadBalancer().getNode().addDependency(this.grafana(), this.certManager(), this.csiSecretsStore(), this.awsSecretsStore(),
-      this.karpenter());
+    return waves;
   }
 }
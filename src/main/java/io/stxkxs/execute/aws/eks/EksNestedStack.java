@@ -5,20 +5,28 @@ import static io.stxkxs.execute.serialization.Format.id;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.stxkxs.execute.aws.eks.addon.HelmValues;
+import io.stxkxs.execute.aws.iam.RoleConstruct;
 import io.stxkxs.execute.aws.sqs.SqsConstruct;
+import io.stxkxs.execute.serialization.ConfigBatch;
 import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
+import io.stxkxs.model.aws.cloudwatch.ObservabilityConf;
 import io.stxkxs.model.aws.eks.KubernetesConf;
+import io.stxkxs.model.aws.eks.NodeClass;
 import io.stxkxs.model.aws.eks.NodeGroup;
+import io.stxkxs.model.aws.eks.NodePoolsConf;
 import io.stxkxs.model.aws.eks.RbacConf;
 import io.stxkxs.model.aws.eks.TenancyConf;
 import io.stxkxs.model.aws.eks.Tenant;
+import io.stxkxs.model.aws.eks.addon.AddonsConf;
 import io.stxkxs.model.aws.sqs.Sqs;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -65,8 +73,12 @@ import software.constructs.Construct;
  * <li>AWS IAM to Kubernetes RBAC integration via aws-auth ConfigMap</li>
  * <li>Dynamic tenant management from CDK context injection</li>
  * <li>Template-based configuration with mustache processing</li>
+ * <li>Templates rendered and bound in parallel through {@link ConfigBatch} while the cluster is being built</li>
+ * <li>Addons configuration bound once and Helm values pre-rendered with {@link HelmValues}</li>
  * <li>Complex dependency orchestration ensuring proper startup order</li>
  * <li>Kubernetes manifest deployment for custom resources</li>
+ * <li>On new clusters with the {@value ManifestBatch#FLAG} context flag, rbac, addon namespaces and the default storage class applied
+ * as one kubectl invocation through a {@link ManifestBatch}</li>
  * </ul>
  *
  * <p>
@@ -118,6 +130,7 @@ public class EksNestedStack extends NestedStack {
   private final ManagedAddonsConstruct managedAddonsConstruct;
   private final NodeGroupsConstruct nodeGroupsConstruct;
   private final AddonsConstruct addonsConstruct;
+  private final NodePoolsConstruct nodePoolsConstruct;
   private final ObservabilityConstruct observabilityConstruct;
 
   @SneakyThrows
@@ -126,23 +139,51 @@ public class EksNestedStack extends NestedStack {
 
     log.debug("{} [common: {} conf: {} props: {}]", "EksNestedStack", common, conf, props);
 
-    this.cluster = cluster(common, conf, vpc);
+    try (var batch = ConfigBatch.of(this)) {
+      var tenants = Map.<String, Object>ofEntries(Map.entry("hosted:eks:administrators", tenant("hosted:eks:administrators")),
+        Map.entry("hosted:eks:users", tenant("hosted:eks:users")));
 
-    var sqs = Mapper.get().readValue(Template.parse(this, conf.sqs()), Sqs.class);
-    this.interruptQueue = new SqsConstruct(this, common, sqs).sqs().getQueue();
+      var rbac = batch.submit(() -> Serialization.unmarshal(Template.parse(batch.context(), conf.rbac()), RbacConf.class));
+      var tenancy = batch.load(conf.tenancy(), TenancyConf.class, tenants);
+      var sqs = batch.load(conf.sqs(), Sqs.class);
+      var nodeGroups = batch.load(conf.nodeGroups(), new TypeReference<List<NodeGroup>>() {});
+      var observability = batch.load(conf.observability(), ObservabilityConf.class);
+      var nodePools = Optional.ofNullable(conf.nodePools()).map(nodePoolsConf -> batch.load(nodePoolsConf, NodePoolsConf.class));
+      var addons = batch.load(conf.addons(), AddonsConf.class).get();
+      var helm = HelmValues.render(this, batch, addons);
+      var storageClass = batch.load(addons.managed().awsEbsCsi().defaultStorageClass(), new TypeReference<Map<String, Object>>() {});
 
-    this.managedAddonsConstruct = new ManagedAddonsConstruct(this, common, conf, this.cluster());
+      this.cluster = cluster(common, conf, vpc, rbac.get(), tenancy.get());
+      var manifests = ManifestBatch.of(this.cluster());
+      manifests.ifPresent(batch -> batch.add(NamespaceConstruct.namespace(addons.karpenter().podIdentity().metadata()))
+        .add(NamespaceConstruct.namespace(addons.awsLoadBalancer().serviceAccount().metadata())));
 
-    var configuration = Mapper.get().readValue(Template.parse(this, conf.nodeGroups()), new TypeReference<List<NodeGroup>>() {});
-    this.nodeGroupsConstruct = new NodeGroupsConstruct(this, conf.name(), common, configuration, this.cluster());
-    this.nodeGroupsConstruct().getNode().addDependency(this.interruptQueue());
+      this.interruptQueue = new SqsConstruct(this, common, sqs.get()).sqs().getQueue();
+      nodePools.ifPresent(n -> helm.defaults(addons.karpenter().chart(),
+        Map.of("settings", Map.of("interruptionQueue", sqs.get().name()))));
 
-    this.addonsConstruct = new AddonsConstruct(this, common, conf, this.cluster());
-    this.addonsConstruct().getNode().addDependency(this.managedAddonsConstruct(), this.nodeGroupsConstruct());
+      this.managedAddonsConstruct = new ManagedAddonsConstruct(this, common, conf, addons, storageClass, this.cluster());
+      manifests.ifPresent(ManifestBatch::flush);
 
-    this.observabilityConstruct = new ObservabilityConstruct(this, common, conf.observability());
-    this.observabilityConstruct().getNode().addDependency(this.managedAddonsConstruct(), this.nodeGroupsConstruct(),
-      this.addonsConstruct());
+      this.nodeGroupsConstruct = new NodeGroupsConstruct(this, conf.name(), common, nodeGroups.get(), this.cluster());
+      this.nodeGroupsConstruct().getNode().addDependency(this.interruptQueue());
+
+      this.addonsConstruct = new AddonsConstruct(this, common, conf, addons, helm, this.cluster());
+      this.addonsConstruct().getNode().addDependency(this.managedAddonsConstruct(), this.nodeGroupsConstruct());
+      manifests.ifPresent(batch -> this.addonsConstruct().getNode().addDependency(batch));
+
+      this.nodePoolsConstruct = nodePools.map(n -> new NodePoolsConstruct(this, common, n.get(), this.cluster())).orElse(null);
+      nodePools.ifPresent(n -> nodeClassRoles(n.get(), this.cluster()));
+      Optional.ofNullable(this.nodePoolsConstruct()).ifPresent(n -> {
+        n.getNode().addDependency(this.addonsConstruct().karpenter());
+        this.interruptQueue().grantConsumeMessages(
+          this.addonsConstruct().karpenter().podIdentity().serviceAccountConstruct().roleConstruct().role());
+      });
+
+      this.observabilityConstruct = new ObservabilityConstruct(this, common, observability.get());
+      this.observabilityConstruct().getNode().addDependency(this.managedAddonsConstruct(), this.nodeGroupsConstruct(),
+        this.addonsConstruct());
+    }
   }
 
   private static EndpointAccess type(String endpointAccess) {
@@ -161,7 +202,7 @@ public class EksNestedStack extends NestedStack {
   }
 
   @SneakyThrows
-  private Cluster cluster(Common common, KubernetesConf conf, Vpc vpc) {
+  private Cluster cluster(Common common, KubernetesConf conf, Vpc vpc, RbacConf rbac, TenancyConf tenancy) {
     var eks = Cluster.Builder.create(this, conf.name()).clusterName(conf.name()).version(KubernetesVersion.of(conf.version()))
       .endpointAccess(type(conf.endpointAccess())).vpc(vpc)
       .vpcSubnets(conf.vpcSubnetTypes().stream()
@@ -170,41 +211,54 @@ public class EksNestedStack extends NestedStack {
       .clusterLogging(conf.loggingTypes().stream().map(String::toUpperCase).map(ClusterLoggingTypes::valueOf).toList()).prune(conf.prune())
       .tags(Common.Maps.from(common.tags(), conf.tags())).build();
 
-    rbac(conf, eks);
-    awsAuthConfigMap(conf, eks);
+    if (ManifestBatch.enabled(this)) {
+      ManifestBatch.cluster(this, eks);
+    }
+
+    rbac(rbac, eks);
+    awsAuthConfigMap(tenancy, eks);
 
     return eks;
   }
 
-  @SneakyThrows
-  private void awsAuthConfigMap(KubernetesConf conf, Cluster eks) {
-    var mapper = Mapper.get();
-    var parsed =
-      Template.parse(this, conf.tenancy(), Map.ofEntries(Map.entry("hosted:eks:administrators", tenant("hosted:eks:administrators")),
-        Map.entry("hosted:eks:users", tenant("hosted:eks:users"))));
-    var tenancy = mapper.readValue(parsed, TenancyConf.class);
-
+  private void awsAuthConfigMap(TenancyConf tenancy, Cluster eks) {
     tenancy.administrators().forEach(administrator -> eks.getAwsAuth()
-      .addMastersRole(Role.fromRoleArn(this, String.format("%s-admin-lookup", administrator.role()), administrator.role())));
+      .addMastersRole(RoleConstruct.lookup(this, String.format("%s-admin-lookup", administrator.role()), administrator.role())));
 
     Optional.ofNullable(tenancy.users()).filter(users -> !users.isEmpty())
       .ifPresent(users -> users
-        .forEach(user -> eks.getAwsAuth().addRoleMapping(Role.fromRoleArn(this, String.format("%s-user-lookup", user.role()), user.role()),
+        .forEach(user -> eks.getAwsAuth().addRoleMapping(
+          RoleConstruct.lookup(this, String.format("%s-user-lookup", user.role()), user.role()),
           AwsAuthMapping.builder().username(user.username()).groups(List.of("eks:read-only")).build())));
   }
 
-  private void rbac(KubernetesConf conf, Cluster eks) throws JsonProcessingException {
+  /**
+   * Maps each Karpenter node class role into aws-auth the way managed node group roles are, so the nodes it launches can register.
+   */
+  private void nodeClassRoles(NodePoolsConf nodePools, Cluster eks) {
+    Optional.ofNullable(nodePools.nodeClasses()).orElse(List.of()).stream().map(NodeClass::role).filter(Objects::nonNull).distinct()
+      .forEach(role -> eks.getAwsAuth().addRoleMapping(Role.fromRoleName(this, id("karpenter.node.role", role), role),
+        AwsAuthMapping.builder().username("system:node:{{EC2PrivateDNSName}}").groups(List.of("system:bootstrappers", "system:nodes"))
+          .build()));
+  }
+
+  private void rbac(RbacConf rbac, Cluster eks) throws JsonProcessingException {
     var mapper = Mapper.get();
-    var parsed = Template.parse(this, conf.rbac());
-    var rbac = Serialization.unmarshal(parsed, RbacConf.class);
 
     var userClusterRoleBindingManifest =
       mapper.readValue(Serialization.asYaml(rbac.userClusterRoleBinding()), new TypeReference<Map<String, Object>>() {});
+    var userClusterRoleManifest =
+      mapper.readValue(Serialization.asYaml(rbac.userClusterRole()), new TypeReference<Map<String, Object>>() {});
+
+    var batch = ManifestBatch.of(eks);
+    if (batch.isPresent()) {
+      batch.get().add(userClusterRoleManifest).add(userClusterRoleBindingManifest);
+      return;
+    }
+
     KubernetesManifest.Builder.create(this, "user-cluster-role-binding").cluster(eks).overwrite(true).prune(true).skipValidation(true)
       .manifest(List.of(userClusterRoleBindingManifest)).build();
 
-    var userClusterRoleManifest =
-      mapper.readValue(Serialization.asYaml(rbac.userClusterRole()), new TypeReference<Map<String, Object>>() {});
     KubernetesManifest.Builder.create(this, "user-cluster-role").cluster(eks).overwrite(true).prune(true).skipValidation(true)
       .manifest(List.of(userClusterRoleManifest)).build();
   }
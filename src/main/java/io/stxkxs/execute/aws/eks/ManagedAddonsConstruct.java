@@ -5,7 +5,7 @@ import static io.stxkxs.execute.serialization.Format.id;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.stxkxs.execute.aws.iam.RoleConstruct;
 import io.stxkxs.execute.aws.kms.KmsConstruct;
-import io.stxkxs.execute.serialization.Mapper;
+import io.stxkxs.execute.serialization.ConfigLoader;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
@@ -17,8 +17,8 @@ import io.stxkxs.model.aws.iam.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.CfnTag;
 import software.amazon.awscdk.services.eks.CfnAddon;
@@ -105,6 +105,8 @@ import software.constructs.Construct;
 @Slf4j
 @Getter
 public class ManagedAddonsConstruct extends Construct {
+  private static final TypeReference<Map<String, Object>> STORAGE_CLASS = new TypeReference<>() {};
+
   private final ManagedAddonConstruct vpcCniConstruct;
   private final ManagedAddonConstruct kubeProxyConstruct;
   private final ManagedAddonConstruct coreDnsConstruct;
@@ -112,40 +114,52 @@ public class ManagedAddonsConstruct extends Construct {
   private final AwsEbsCsiConstruct awsEbsCsiConstruct;
   private final ManagedAddonConstruct containerInsightsConstruct;
 
-  @SneakyThrows
   public ManagedAddonsConstruct(Construct scope, Common common, KubernetesConf conf, Cluster cluster) {
+    this(scope, common, conf, ConfigLoader.load(scope, conf.addons(), AddonsConf.class), cluster);
+  }
+
+  private ManagedAddonsConstruct(Construct scope, Common common, KubernetesConf conf, AddonsConf addons, Cluster cluster) {
+    this(scope, common, conf, addons, () -> Template.read(scope, addons.managed().awsEbsCsi().defaultStorageClass(), STORAGE_CLASS),
+      cluster);
+  }
+
+  /**
+   * Builds the managed addons from an already bound {@link AddonsConf}, e.g. the instance shared with {@link AddonsConstruct}, and the ebs
+   * csi default storage class rendered alongside it, e.g. by a {@code ConfigBatch}.
+   */
+  public ManagedAddonsConstruct(Construct scope, Common common, KubernetesConf conf, AddonsConf addons,
+    Supplier<Map<String, Object>> storageClass, Cluster cluster) {
     super(scope, id("managed-addons", conf.name()));
 
     log.debug("{} [common: {} conf: {}]", "ManagedAddonsConstruct", common, conf);
 
-    var addons = Mapper.get().readValue(Template.parse(scope, conf.addons()), AddonsConf.class);
     this.vpcCniConstruct = new ManagedAddonConstruct(this, common, addons.managed().awsVpcCni(), cluster);
     this.kubeProxyConstruct = new ManagedAddonConstruct(this, common, addons.managed().kubeProxy(), cluster);
     this.coreDnsConstruct = new ManagedAddonConstruct(this, common, addons.managed().coreDns(), cluster);
     this.podIdentityAgentConstruct = new ManagedAddonConstruct(this, common, addons.managed().podIdentityAgent(), cluster);
-    this.awsEbsCsiConstruct = new AwsEbsCsiConstruct(this, common, addons.managed().awsEbsCsi(), cluster);
+    this.awsEbsCsiConstruct = new AwsEbsCsiConstruct(this, common, addons.managed().awsEbsCsi(), storageClass, cluster);
     this.containerInsightsConstruct = new ManagedAddonConstruct(this, common, addons.managed().containerInsights(), cluster);
   }
 
   @Getter
   static class AwsEbsCsiConstruct extends Construct {
     private final ManagedAddonConstruct addonConstruct;
-    private final KubernetesManifest storageClass;
+    private final Construct storageClass;
     private final Key encryptionKey;
 
-    @SneakyThrows
-    public AwsEbsCsiConstruct(Construct scope, Common common, AwsEbsCsiAddon conf, Cluster cluster) {
+    public AwsEbsCsiConstruct(Construct scope, Common common, AwsEbsCsiAddon conf, Supplier<Map<String, Object>> storageClass,
+      Cluster cluster) {
       super(scope, "aws-ebs-csi");
 
       log.debug("{} [common: {} conf: {}]", "AwsEbsCsiConstruct", common, conf);
 
       this.addonConstruct = new ManagedAddonConstruct(this, common, conf, cluster);
-      this.encryptionKey = new KmsConstruct(this, common, conf.kms()).key();
+      this.encryptionKey = KmsConstruct.shared(this, common, conf.kms());
 
-      var parsed = Template.parse(scope, conf.defaultStorageClass());
-      var manifest = Mapper.get().readValue(parsed, new TypeReference<Map<String, Object>>() {});
-      this.storageClass = KubernetesManifest.Builder.create(this, "storageclass").cluster(cluster).overwrite(true).prune(true)
-        .skipValidation(true).manifest(List.of(manifest)).build();
+      var manifest = storageClass.get();
+      this.storageClass = ManifestBatch.of(cluster).filter(batch -> batch.manifest() == null).<Construct>map(batch -> batch.add(manifest))
+        .orElseGet(() -> KubernetesManifest.Builder.create(this, "storageclass").cluster(cluster).overwrite(true).prune(true)
+          .skipValidation(true).manifest(List.of(manifest)).build());
     }
   }
 
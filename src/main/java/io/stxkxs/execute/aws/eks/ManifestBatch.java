@@ -0,0 +1,155 @@
+package io.stxkxs.execute.aws.eks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.stxkxs.execute.serialization.Mapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.ICluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.constructs.Construct;
+
+/**
+ * Gathers Kubernetes objects that share a dependency level into a single multi-document {@link KubernetesManifest}.
+ *
+ * <p>
+ * Every {@code KubernetesManifest} is its own invocation of the kubectl handler at deploy time, each paying the Lambda cold start and a
+ * {@code kubectl apply}. Objects with the same dependencies are {@link #add added} to one batch and {@link #flush flushed} into one
+ * manifest, which kubectl applies in a single call. Documents are ordered by kind the way Helm installs them (Namespace, ServiceAccount,
+ * Secret, ConfigMap, StorageClass, CustomResourceDefinition, ClusterRole, ClusterRoleBinding, Role, RoleBinding, Service, workloads ...),
+ * so a namespace or role always exists before the objects that use it. Kinds not in that list go last, in the order they were added.
+ *
+ * <p>
+ * Batch objects that are new to the cluster, e.g. node pools or overprovisioning. Moving an already deployed {@code KubernetesManifest}
+ * into a batch changes its logical id: CloudFormation creates the batch, then deletes the old custom resource during update cleanup, and
+ * the kubectl handler deletes its objects from the cluster together with everything they own. Existing manifests such as the rbac roles,
+ * addon namespaces and the ebs csi storage class therefore keep their own constructs by default.
+ *
+ * <p>
+ * New clusters can opt in with the {@value #FLAG} context flag. {@code EksNestedStack} then creates one {@link #cluster cluster batch}
+ * holding the rbac cluster role and binding, the Karpenter and AWS Load Balancer Controller namespaces and the ebs csi default storage
+ * class, and {@code NamespaceConstruct} and the ebs csi construct add to it instead of creating their own manifests. Do not set the flag
+ * on a cluster that is already deployed without it, for the reason above.
+ *
+ * <pre>{@code
+ * var manifests = new ManifestBatch(this, "overprovisioning", cluster);
+ * manifests.add(priorityClass).add(deployment);
+ * var manifest = manifests.flush();
+ * }</pre>
+ */
+@Slf4j
+@Getter
+public class ManifestBatch extends Construct {
+  private static final List<String> KINDS = List.of("Namespace", "NetworkPolicy", "ResourceQuota", "LimitRange", "PodDisruptionBudget",
+    "ServiceAccount", "Secret", "ConfigMap", "StorageClass", "PersistentVolume", "PersistentVolumeClaim", "CustomResourceDefinition",
+    "PriorityClass", "ClusterRole", "ClusterRoleBinding", "Role", "RoleBinding", "Service", "DaemonSet", "Pod", "ReplicationController",
+    "ReplicaSet", "Deployment", "HorizontalPodAutoscaler", "StatefulSet", "Job", "CronJob", "IngressClass", "Ingress", "APIService");
+
+  /**
+   * Context flag that applies a new cluster's base objects through one {@link #cluster cluster batch}.
+   */
+  public static final String FLAG = "eks:manifests:batch";
+
+  private static final Map<ICluster, ManifestBatch> clusters = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final ICluster cluster;
+  private final List<Map<String, Object>> documents = new ArrayList<>();
+  private KubernetesManifest manifest;
+
+  public ManifestBatch(Construct scope, String id, ICluster cluster) {
+    super(scope, id);
+    this.cluster = cluster;
+  }
+
+  /**
+   * Whether {@value #FLAG} is set on {@code scope}.
+   */
+  public static boolean enabled(Construct scope) {
+    return Optional.ofNullable(scope.getNode().tryGetContext(FLAG)).map(Object::toString).map(Boolean::parseBoolean).orElse(false);
+  }
+
+  /**
+   * Creates the batch for the base objects of {@code cluster} and registers it, so the constructs building those objects find it through
+   * {@link #of}. The caller flushes it.
+   */
+  public static ManifestBatch cluster(Construct scope, ICluster cluster) {
+    var batch = new ManifestBatch(scope, "manifests", cluster);
+    clusters.put(cluster, batch);
+    return batch;
+  }
+
+  /**
+   * The registered batch for {@code cluster}, if {@link #cluster} created one.
+   */
+  public static Optional<ManifestBatch> of(ICluster cluster) {
+    return Optional.ofNullable(clusters.get(cluster));
+  }
+
+  /**
+   * The flushed manifest when it applies an object of the same kind and name as {@code document}.
+   */
+  public Optional<KubernetesManifest> applied(Map<String, Object> document) {
+    if (manifest == null) {
+      return Optional.empty();
+    }
+
+    var key = key(document);
+    return documents.stream().anyMatch(d -> key.equals(key(d))) ? Optional.of(manifest) : Optional.empty();
+  }
+
+  /**
+   * Adds a fabric8 model object.
+   */
+  @SneakyThrows
+  public ManifestBatch add(HasMetadata object) {
+    return add(Mapper.get().readValue(Serialization.asYaml(object), new TypeReference<Map<String, Object>>() {}));
+  }
+
+  public ManifestBatch add(Map<String, Object> document) {
+    if (manifest != null) {
+      var m = String.format("error adding kubernetes manifest! %s has already been flushed.", this.getNode().getPath());
+      throw new RuntimeException(m);
+    }
+
+    documents.add(document);
+    return this;
+  }
+
+  /**
+   * Creates the manifest holding every document added so far, ordered by kind. Later calls return the same manifest; nothing can be
+   * added afterwards. Returns {@code null} when the batch is empty.
+   */
+  public KubernetesManifest flush() {
+    if (manifest != null || documents.isEmpty()) {
+      return manifest;
+    }
+
+    var ordered = documents.stream().sorted(Comparator.comparingInt(ManifestBatch::priority)).toList();
+    log.debug("{} [path: {} documents: {}]", "ManifestBatch", this.getNode().getPath(), ordered.size());
+
+    this.manifest = KubernetesManifest.Builder.create(this, "manifest").cluster(cluster).overwrite(true).prune(true).skipValidation(true)
+      .manifest(ordered).build();
+
+    return manifest;
+  }
+
+  private static String key(Map<String, Object> document) {
+    var name = document.get("metadata") instanceof Map<?, ?> metadata ? metadata.get("name") : null;
+    return String.format("%s/%s", document.get("kind"), name);
+  }
+
+  private static int priority(Map<String, Object> document) {
+    var kind = Optional.ofNullable(document.get("kind")).map(Object::toString).orElse("");
+    var index = KINDS.indexOf(kind);
+    return index < 0 ? KINDS.size() : index;
+  }
+}
@@ -22,18 +22,27 @@ import software.constructs.Construct;
 public class NamespaceConstruct extends Construct {
   private final KubernetesManifest manifest;
 
-  @SneakyThrows
   public NamespaceConstruct(Construct scope, Common common, ObjectMeta metadata, ICluster cluster) {
     super(scope, id("namespace", metadata.getName()));
 
     log.debug("{} [common: {}]", "NamespaceConstruct", common);
 
+    var manifest = namespace(metadata);
+
+    this.manifest = ManifestBatch.of(cluster).flatMap(batch -> batch.applied(manifest))
+      .orElseGet(() -> KubernetesManifest.Builder.create(this, metadata.getName()).cluster(cluster).prune(true).overwrite(true)
+        .skipValidation(true).manifest(List.of(manifest)).build());
+  }
+
+  /**
+   * The namespace described by {@code metadata}. When the cluster's {@link ManifestBatch} already applies it, the construct uses that
+   * manifest instead of creating its own.
+   */
+  @SneakyThrows
+  public static Map<String, Object> namespace(ObjectMeta metadata) {
     var namespace = new NamespaceBuilder().withNewMetadata().withName(metadata.getNamespace()).withLabels(metadata.getLabels())
       .withAnnotations(metadata.getAnnotations()).endMetadata().build();
 
-    var manifest = Mapper.get().readValue(Serialization.asYaml(namespace), new TypeReference<Map<String, Object>>() {});
-
-    this.manifest = KubernetesManifest.Builder.create(this, metadata.getName()).cluster(cluster).prune(true).overwrite(true)
-      .skipValidation(true).manifest(List.of(manifest)).build();
+    return Mapper.get().readValue(Serialization.asYaml(namespace), new TypeReference<Map<String, Object>>() {});
   }
 }
@@ -6,34 +6,170 @@ import io.stxkxs.execute.aws.iam.RoleConstruct;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.eks.NodeGroup;
+import io.stxkxs.model.aws.eks.NodeGroupLaunchTemplate;
+import io.stxkxs.model.aws.eks.NodeGroupOverprovisioning;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.CfnTag;
+import software.amazon.awscdk.services.ec2.CfnLaunchTemplate;
+import software.amazon.awscdk.services.ec2.InstanceArchitecture;
 import software.amazon.awscdk.services.ec2.InstanceType;
 import software.amazon.awscdk.services.eks.CapacityType;
 import software.amazon.awscdk.services.eks.ICluster;
+import software.amazon.awscdk.services.eks.LaunchTemplateSpec;
 import software.amazon.awscdk.services.eks.Nodegroup;
+import software.amazon.awscdk.services.eks.NodegroupAmiType;
 import software.constructs.Construct;
 
+/**
+ * EKS managed node groups.
+ *
+ * <p>
+ * A node group takes an ordered list of {@code instanceTypes} (e.g. {@code [m7g.large, m6g.large, c7g.xlarge]}); spot groups in particular
+ * should list several so capacity can be found in more pools. Without the list the single {@code instanceClass}/{@code instanceSize} pair
+ * is used. Every instance type must match the architecture of the AMI type, so an {@code *_ARM_64} AMI only runs Graviton instances.
+ *
+ * <p>
+ * A {@code launchTemplate} sets the gp3 root volume size, IOPS and throughput, and the instance metadata options. It requires IMDSv2
+ * ({@code httpTokens: required}) with a hop limit of 2, so pods on the node can still reach the metadata service; set {@code httpTokens}
+ * or {@code httpPutResponseHopLimit} to change either. Node groups without a launch template keep the EKS defaults.
+ *
+ * <p>
+ * {@code overprovisioning} keeps low-priority pause pods on the group: they hold spare capacity that real workloads preempt immediately.
+ * No cluster autoscaler is installed, so the group itself never scales out for them; the preempted pause pods only prefer the group and
+ * are rescheduled onto capacity Karpenter launches from the cluster's {@code nodePools}. Without node pools they stay pending and the
+ * headroom is not replenished.
+ */
 @Slf4j
 @Getter
 public class NodeGroupsConstruct extends Construct {
   private final List<Nodegroup> nodeGroups;
+  private final ManifestBatch overprovisioning;
 
   public NodeGroupsConstruct(Construct scope, String id, Common common, List<NodeGroup> conf, ICluster cluster) {
     super(scope, id("nodegroups", id));
 
     log.debug("{} [common: {} conf: {}]", "NodeGroupsConstruct", common, conf);
 
+    this.overprovisioning = new ManifestBatch(this, "overprovisioning", cluster);
+
     this.nodeGroups = conf.stream().map(nodeGroup -> {
       var principal = nodeGroup.role().principal().iamPrincipal();
       var role = new RoleConstruct(this, common, principal, nodeGroup.role()).role();
+      var instanceTypes = instanceTypes(nodeGroup);
+
+      var builder = Nodegroup.Builder.create(this, nodeGroup.name()).cluster(cluster).nodegroupName(nodeGroup.name())
+        .amiType(nodeGroup.amiType()).instanceTypes(instanceTypes).minSize(nodeGroup.minSize()).maxSize(nodeGroup.maxSize())
+        .desiredSize(nodeGroup.desiredSize()).capacityType(CapacityType.valueOf(nodeGroup.capacityType().toUpperCase())).nodeRole(role)
+        .forceUpdate(nodeGroup.forceUpdate()).labels(nodeGroup.labels()).tags(Maps.from(common.tags(), nodeGroup.tags()));
+
+      Optional.ofNullable(nodeGroup.launchTemplate()).map(launchTemplate -> launchTemplate(common, nodeGroup, launchTemplate))
+        .ifPresent(builder::launchTemplateSpec);
+
+      Optional.ofNullable(nodeGroup.overprovisioning()).ifPresent(o -> overprovision(nodeGroup, o));
 
-      return Nodegroup.Builder.create(this, nodeGroup.name()).cluster(cluster).nodegroupName(nodeGroup.name()).amiType(nodeGroup.amiType())
-        .instanceTypes(List.of(InstanceType.of(nodeGroup.instanceClass(), nodeGroup.instanceSize()))).minSize(nodeGroup.minSize())
-        .maxSize(nodeGroup.maxSize()).desiredSize(nodeGroup.desiredSize())
-        .capacityType(CapacityType.valueOf(nodeGroup.capacityType().toUpperCase())).nodeRole(role).forceUpdate(nodeGroup.forceUpdate())
-        .labels(nodeGroup.labels()).tags(Maps.from(common.tags(), nodeGroup.tags())).build();
+      return builder.build();
     }).toList();
+
+    this.overprovisioning().flush();
+  }
+
+  private static List<InstanceType> instanceTypes(NodeGroup conf) {
+    var instanceTypes = Optional.ofNullable(conf.instanceTypes()).filter(types -> !types.isEmpty())
+      .map(types -> types.stream().map(InstanceType::new).toList())
+      .orElseGet(() -> List.of(InstanceType.of(conf.instanceClass(), conf.instanceSize())));
+
+    var architecture = Optional.ofNullable(conf.amiType()).map(NodeGroupsConstruct::architecture)
+      .orElseGet(() -> instanceTypes.getFirst().getArchitecture());
+
+    instanceTypes.stream().filter(type -> !type.getArchitecture().equals(architecture)).findFirst().ifPresent(type -> {
+      var m = String.format("error creating node group %s! instance type %s is %s but the node group runs %s.", conf.name(),
+        type.toString(), type.getArchitecture(), conf.amiType() != null ? conf.amiType() : architecture);
+      throw new RuntimeException(m);
+    });
+
+    return instanceTypes;
+  }
+
+  private static InstanceArchitecture architecture(NodegroupAmiType amiType) {
+    return amiType.name().contains("ARM_64") ? InstanceArchitecture.ARM_64 : InstanceArchitecture.X86_64;
+  }
+
+  /**
+   * gp3 root volume for the node group. Bottlerocket keeps the OS on {@code /dev/xvda} and container data on {@code /dev/xvdb}, so the
+   * data volume is the one tuned there.
+   */
+  private LaunchTemplateSpec launchTemplate(Common common, NodeGroup nodeGroup, NodeGroupLaunchTemplate conf) {
+    var bottlerocket = nodeGroup.amiType() != null && nodeGroup.amiType().name().startsWith("BOTTLEROCKET");
+    var deviceName = Optional.ofNullable(conf.deviceName()).orElse(bottlerocket ? "/dev/xvdb" : "/dev/xvda");
+
+    var ebs = CfnLaunchTemplate.EbsProperty.builder().volumeType("gp3").volumeSize(conf.volumeSize()).iops(conf.iops())
+      .throughput(conf.throughput()).encrypted(true).deleteOnTermination(true).build();
+
+    var launchTemplate = CfnLaunchTemplate.Builder.create(this, id("launchtemplate", nodeGroup.name()))
+      .launchTemplateData(CfnLaunchTemplate.LaunchTemplateDataProperty.builder()
+        .blockDeviceMappings(List.of(CfnLaunchTemplate.BlockDeviceMappingProperty.builder().deviceName(deviceName).ebs(ebs).build()))
+        .metadataOptions(CfnLaunchTemplate.MetadataOptionsProperty.builder()
+          .httpTokens(Optional.ofNullable(conf.httpTokens()).orElse("required"))
+          .httpPutResponseHopLimit(Optional.ofNullable(conf.httpPutResponseHopLimit()).orElse(2)).build())
+        .build())
+      .tagSpecifications(List.of(CfnLaunchTemplate.LaunchTemplateTagSpecificationProperty.builder().resourceType("launch-template")
+        .tags(Maps.from(common.tags(), nodeGroup.tags()).entrySet().stream()
+          .map(e -> CfnTag.builder().key(e.getKey()).value(e.getValue()).build()).toList())
+        .build()))
+      .build();
+
+    return LaunchTemplateSpec.builder().id(launchTemplate.getRef()).version(launchTemplate.getAttrLatestVersionNumber()).build();
+  }
+
+  /**
+   * A priority class below every workload and a deployment of pause pods preferring the node group, sized to the spare capacity to keep.
+   */
+  private void overprovision(NodeGroup nodeGroup, NodeGroupOverprovisioning conf) {
+    if (conf.cpu() == null || conf.memory() == null) {
+      var m = String.format("error creating node group %s! overprovisioning needs both cpu and memory, got cpu: %s memory: %s.",
+        nodeGroup.name(), conf.cpu(), conf.memory());
+      throw new RuntimeException(m);
+    }
+
+    if (conf.replicas() == null || conf.replicas() < 1) {
+      var m = String.format("error creating node group %s! overprovisioning needs at least one replica, got replicas: %s.",
+        nodeGroup.name(), conf.replicas());
+      throw new RuntimeException(m);
+    }
+
+    var name = String.format("%s-overprovisioning", nodeGroup.name());
+    var namespace = Optional.ofNullable(conf.namespace()).orElse("kube-system");
+
+    var priorityClass = new LinkedHashMap<String, Object>();
+    priorityClass.put("apiVersion", "scheduling.k8s.io/v1");
+    priorityClass.put("kind", "PriorityClass");
+    priorityClass.put("metadata", Map.of("name", name));
+    priorityClass.put("value", Optional.ofNullable(conf.priority()).orElse(-10));
+    priorityClass.put("globalDefault", false);
+    priorityClass.put("preemptionPolicy", "Never");
+    priorityClass.put("description", String.format("pause pods holding spare capacity on node group %s", nodeGroup.name()));
+
+    var labels = Map.of("app.kubernetes.io/name", name);
+    var container = Map.of("name", "pause", "image", "registry.k8s.io/pause:3.10", "resources",
+      Map.of("requests", Map.of("cpu", conf.cpu(), "memory", conf.memory())));
+    var nodeGroupTerm = Map.of("key", "eks.amazonaws.com/nodegroup", "operator", "In", "values", List.of(nodeGroup.name()));
+    var affinity = Map.of("nodeAffinity", Map.of("preferredDuringSchedulingIgnoredDuringExecution",
+      List.of(Map.of("weight", 100, "preference", Map.of("matchExpressions", List.of(nodeGroupTerm))))));
+    var pod = Map.<String, Object>of("priorityClassName", name, "terminationGracePeriodSeconds", 0, "affinity", affinity, "containers",
+      List.of(container));
+
+    var deployment = new LinkedHashMap<String, Object>();
+    deployment.put("apiVersion", "apps/v1");
+    deployment.put("kind", "Deployment");
+    deployment.put("metadata", Map.of("name", name, "namespace", namespace, "labels", labels));
+    deployment.put("spec", Map.of("replicas", conf.replicas(), "selector", Map.of("matchLabels", labels), "template",
+      Map.of("metadata", Map.of("labels", labels), "spec", pod)));
+
+    this.overprovisioning().add(priorityClass).add(deployment);
   }
 }
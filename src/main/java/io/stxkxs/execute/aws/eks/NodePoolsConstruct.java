@@ -0,0 +1,168 @@
+package io.stxkxs.execute.aws.eks;
+
+import static io.stxkxs.execute.serialization.Format.id;
+
+import io.stxkxs.model._main.Common;
+import io.stxkxs.model._main.Common.Maps;
+import io.stxkxs.model.aws.eks.NodeClass;
+import io.stxkxs.model.aws.eks.NodePool;
+import io.stxkxs.model.aws.eks.NodePoolsConf;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.eks.ICluster;
+import software.amazon.awscdk.services.eks.KubernetesManifest;
+import software.constructs.Construct;
+
+/**
+ * Karpenter provisioning: {@code EC2NodeClass} ({@code karpenter.k8s.aws/v1}) and {@code NodePool} ({@code karpenter.sh/v1}) resources
+ * generated from {@link NodePoolsConf} and applied as one manifest.
+ *
+ * <p>
+ * Managed node groups scale a fixed-shape ASG. Node pools let Karpenter launch right-sized nodes from any of the listed instance families
+ * and capacity types within seconds, and consolidate them away when they are no longer needed. Node classes select subnets and security
+ * groups by tag, defaulting to {@code karpenter.sh/discovery: <cluster name>}, and use encrypted gp3 root volumes.
+ *
+ * <p>
+ * The construct must be applied after the Karpenter chart, which installs the CRDs. When node pools are configured, {@code EksNestedStack}
+ * defaults the chart's {@code settings.interruptionQueue} to its interruption queue, unless the values template already sets one, and
+ * grants the Karpenter controller role permission to consume from that queue. Nodes launched with a node class's {@code role} join the
+ * cluster through the aws-auth mapping {@code EksNestedStack} adds for it, as {@code system:bootstrappers} and {@code system:nodes}; the
+ * role itself, with the worker node policies and an EC2 trust policy, must exist beforehand.
+ *
+ * <pre>{@code
+ * nodeClasses:
+ *   - name: default
+ *     role: {{hosted:id}}-karpenter-node
+ *     amiAlias: al2023@latest
+ * nodePools:
+ *   - name: general
+ *     nodeClass: default
+ *     instanceFamilies: [m7i, m7g, c7i, c7g]
+ *     capacityTypes: [spot, on-demand]
+ *     architectures: [amd64, arm64]
+ *     limits: { cpu: "200", memory: 800Gi }
+ *     disruption:
+ *       consolidationPolicy: WhenEmptyOrUnderutilized
+ *       consolidateAfter: 1m
+ *       budgets:
+ *         - nodes: "10%"
+ * }</pre>
+ */
+@Slf4j
+@Getter
+public class NodePoolsConstruct extends Construct {
+  private final KubernetesManifest manifest;
+
+  public NodePoolsConstruct(Construct scope, Common common, NodePoolsConf conf, ICluster cluster) {
+    super(scope, id("karpenter.nodepools"));
+
+    log.debug("{} [common: {} conf: {}]", "NodePoolsConstruct", common, conf);
+
+    var discovery = Map.of("karpenter.sh/discovery", cluster.getClusterName());
+    var batch = new ManifestBatch(this, "manifests", cluster);
+    Optional.ofNullable(conf.nodeClasses()).orElse(List.of()).forEach(nodeClass -> batch.add(nodeClass(common, nodeClass, discovery)));
+    Optional.ofNullable(conf.nodePools()).orElse(List.of()).forEach(nodePool -> batch.add(nodePool(nodePool)));
+
+    this.manifest = batch.flush();
+  }
+
+  private static Map<String, Object> nodeClass(Common common, NodeClass conf, Map<String, String> discovery) {
+    if (conf.name() == null || conf.role() == null) {
+      var m = String.format("error creating karpenter node class! name and role are required, got name %s and role %s.", conf.name(),
+        conf.role());
+      throw new RuntimeException(m);
+    }
+
+    var spec = new LinkedHashMap<String, Object>();
+    spec.put("role", conf.role());
+    spec.put("amiSelectorTerms", List.of(Map.of("alias", Optional.ofNullable(conf.amiAlias()).orElse("al2023@latest"))));
+    spec.put("subnetSelectorTerms", List.of(Map.of("tags", selector(conf.subnetSelectorTags(), discovery))));
+    spec.put("securityGroupSelectorTerms", List.of(Map.of("tags", selector(conf.securityGroupSelectorTags(), discovery))));
+    spec.put("blockDeviceMappings", List.of(Map.of("deviceName", "/dev/xvda", "ebs", Map.of("volumeSize",
+      Optional.ofNullable(conf.volumeSize()).orElse("50Gi"), "volumeType", "gp3", "encrypted", true, "deleteOnTermination", true))));
+    spec.put("tags", Maps.from(common.tags(), conf.tags()));
+
+    return document("karpenter.k8s.aws/v1", "EC2NodeClass", conf.name(), spec);
+  }
+
+  /**
+   * The configured selector tags, or the cluster's discovery tag when none are given. The mapper binds an absent map as empty, and an
+   * empty selector term would match nothing.
+   */
+  private static Map<String, String> selector(Map<String, String> tags, Map<String, String> discovery) {
+    return tags == null || tags.isEmpty() ? discovery : tags;
+  }
+
+  private static Map<String, Object> nodePool(NodePool conf) {
+    if (conf.name() == null || conf.nodeClass() == null) {
+      var m = String.format("error creating karpenter node pool! name and nodeClass are required, got name %s and nodeClass %s.",
+        conf.name(), conf.nodeClass());
+      throw new RuntimeException(m);
+    }
+
+    var requirements = new ArrayList<Map<String, Object>>();
+    requirement(requirements, "karpenter.k8s.aws/instance-family", conf.instanceFamilies());
+    requirement(requirements, "karpenter.k8s.aws/instance-size", conf.instanceSizes());
+    requirement(requirements, "karpenter.sh/capacity-type", conf.capacityTypes());
+    requirement(requirements, "kubernetes.io/arch", conf.architectures());
+    requirement(requirements, "kubernetes.io/os", List.of("linux"));
+
+    var template = new LinkedHashMap<String, Object>();
+    template.put("nodeClassRef", Map.of("group", "karpenter.k8s.aws", "kind", "EC2NodeClass", "name", conf.nodeClass()));
+    template.put("requirements", requirements);
+    Optional.ofNullable(conf.expireAfter()).ifPresent(expireAfter -> template.put("expireAfter", expireAfter));
+
+    var spec = new LinkedHashMap<String, Object>();
+    spec.put("template", Optional.ofNullable(conf.labels()).filter(labels -> !labels.isEmpty())
+      .map(labels -> Map.<String, Object>of("metadata", Map.of("labels", labels), "spec", template))
+      .orElseGet(() -> Map.of("spec", template)));
+    Optional.ofNullable(conf.limits()).filter(limits -> !limits.isEmpty()).ifPresent(limits -> spec.put("limits", limits));
+    Optional.ofNullable(conf.weight()).ifPresent(weight -> spec.put("weight", weight));
+
+    var disruption = new LinkedHashMap<String, Object>();
+    Optional.ofNullable(conf.disruption()).ifPresent(d -> {
+      Optional.ofNullable(d.consolidationPolicy()).ifPresent(policy -> disruption.put("consolidationPolicy", policy));
+      Optional.ofNullable(d.consolidateAfter()).ifPresent(after -> disruption.put("consolidateAfter", after));
+      Optional.ofNullable(d.budgets()).filter(budgets -> !budgets.isEmpty()).ifPresent(budgets -> disruption.put("budgets",
+        budgets.stream().map(budget -> {
+          if (budget.nodes() == null) {
+            var m = String.format("error creating karpenter node pool %s! every disruption budget needs nodes, e.g. \"10%%\".",
+              conf.name());
+            throw new RuntimeException(m);
+          }
+
+          var b = new LinkedHashMap<String, Object>();
+          b.put("nodes", budget.nodes());
+          Optional.ofNullable(budget.schedule()).ifPresent(schedule -> b.put("schedule", schedule));
+          Optional.ofNullable(budget.duration()).ifPresent(duration -> b.put("duration", duration));
+          Optional.ofNullable(budget.reasons()).filter(reasons -> !reasons.isEmpty()).ifPresent(reasons -> b.put("reasons", reasons));
+          return b;
+        }).toList()));
+    });
+    if (!disruption.isEmpty()) {
+      spec.put("disruption", disruption);
+    }
+
+    return document("karpenter.sh/v1", "NodePool", conf.name(), spec);
+  }
+
+  private static void requirement(List<Map<String, Object>> requirements, String key, List<String> values) {
+    if (values != null && !values.isEmpty()) {
+      requirements.add(Map.of("key", key, "operator", "In", "values", values));
+    }
+  }
+
+  private static Map<String, Object> document(String apiVersion, String kind, String name, Map<String, Object> spec) {
+    var document = new LinkedHashMap<String, Object>();
+    document.put("apiVersion", apiVersion);
+    document.put("kind", kind);
+    document.put("metadata", Map.of("name", name));
+    document.put("spec", spec);
+    return document;
+  }
+}
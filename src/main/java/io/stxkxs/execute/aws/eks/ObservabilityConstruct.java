@@ -2,8 +2,8 @@ package io.stxkxs.execute.aws.eks;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
-import io.stxkxs.execute.serialization.Mapper;
-import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.serialization.ConfigLoader;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.cloudwatch.AlarmConf;
 import io.stxkxs.model.aws.cloudwatch.DashboardConf;
@@ -104,13 +104,12 @@ public class ObservabilityConstruct extends Construct {
   private final List<CfnDashboard> dashboards;
   private final Map<String, ITopic> alarmTopics;
 
-  @SneakyThrows
   public ObservabilityConstruct(Construct scope, Common common, String conf) {
-    super(scope, id("observability", common.name()));
+    this(scope, common, ConfigLoader.load(scope, conf, ObservabilityConf.class));
+  }
 
-    var mapper = Mapper.get();
-    var parsed = Template.parse(scope, conf);
-    var observability = mapper.readValue(parsed, ObservabilityConf.class);
+  public ObservabilityConstruct(Construct scope, Common common, ObservabilityConf observability) {
+    super(scope, id("observability", common.name()));
 
     log.debug("{} [common: {} conf: {}]", "ObservabilityConstruct", common, observability);
 
@@ -185,7 +184,7 @@ public class ObservabilityConstruct extends Construct {
         }
 
         if (conf.tags() != null) {
-          Common.Maps.from(common.tags(), conf.tags()).forEach((key, value) -> software.amazon.awscdk.Tags.of(alarm).add(key, value));
+          Tagging.add(alarm, Common.Maps.from(common.tags(), conf.tags()));
         }
 
         return alarm;
@@ -208,8 +207,7 @@ public class ObservabilityConstruct extends Construct {
           CfnDashboard.Builder.create(scope, id("dashboard", conf.name())).dashboardName(conf.name()).dashboardBody(conf.body()).build();
 
         if (conf.tags() != null) {
-          Common.Maps.from(common.tags(), conf.tags())
-            .forEach((key, value) -> software.amazon.awscdk.Tags.of(cfnDashboard).add(key, value));
+          Tagging.add(cfnDashboard, Common.Maps.from(common.tags(), conf.tags()));
         }
 
         return cfnDashboard;
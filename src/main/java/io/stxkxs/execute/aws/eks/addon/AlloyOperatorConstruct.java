@@ -3,13 +3,11 @@ package io.stxkxs.execute.aws.eks.addon;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.eks.addon.core.AlloyOperatorAddon;
 import java.util.Map;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.eks.HelmChart;
@@ -105,20 +103,26 @@ public class AlloyOperatorConstruct extends GrafanaBaseConstruct {
    * @throws RuntimeException
    *           if template processing fails or chart deployment encounters errors
    */
-  @SneakyThrows
   public AlloyOperatorConstruct(Construct scope, Common common, AlloyOperatorAddon conf, ICluster cluster) {
+    this(scope, common, conf, cluster, createSecretFromContext(scope) != null
+      ? Template.read(scope, conf.chart().values(), new TypeReference<Map<String, Object>>() {})
+      : null);
+  }
+
+  /**
+   * Builds the chart with values already rendered, e.g. by {@link HelmValues}. {@code null} values mean the Grafana Cloud context is
+   * missing and the deployment is skipped.
+   */
+  public AlloyOperatorConstruct(Construct scope, Common common, AlloyOperatorAddon conf, ICluster cluster, Map<String, Object> values) {
     super(scope, id("alloy-operator", conf.chart().release()));
 
     log.debug("{} [common: {} conf: {}]", "AlloyOperatorConstruct", common, conf);
 
-    var secret = createSecretFromContext(scope);
-    if (secret == null) {
+    if (values == null) {
       this.chart = null;
       return;
     }
 
-    var parsed = Template.parse(scope, conf.chart().values());
-    var values = Mapper.get().readValue(parsed, new TypeReference<Map<String, Object>>() {});
     this.chart = HelmChart.Builder.create(this, conf.chart().name()).cluster(cluster).wait(true).timeout(Duration.minutes(5))
       .skipCrds(false).createNamespace(true).chart(conf.chart().name()).namespace(conf.chart().namespace())
       .repository(conf.chart().repository()).release(conf.chart().release()).version(conf.chart().version()).values(values).build();
@@ -3,13 +3,11 @@ package io.stxkxs.execute.aws.eks.addon;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.eks.addon.core.CertManagerAddon;
 import java.util.Map;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.eks.HelmChart;
@@ -21,15 +19,18 @@ import software.constructs.Construct;
 public class CertManagerConstruct extends Construct {
   private final HelmChart chart;
 
-  @SneakyThrows
   public CertManagerConstruct(Construct scope, Common common, CertManagerAddon conf, ICluster cluster) {
+    this(scope, common, conf, cluster, Template.read(scope, conf.chart().values(), new TypeReference<Map<String, Object>>() {}));
+  }
+
+  /**
+   * Builds the chart with values already rendered, e.g. by {@link HelmValues}.
+   */
+  public CertManagerConstruct(Construct scope, Common common, CertManagerAddon conf, ICluster cluster, Map<String, Object> values) {
     super(scope, id("certmanager", conf.chart().release()));
 
     log.debug("{} [common: {} conf: {}]", "CertManagerConstruct", common, conf);
 
-    var parsed = Template.parse(scope, conf.chart().values());
-    var values = Mapper.get().readValue(parsed, new TypeReference<Map<String, Object>>() {});
-
     this.chart = HelmChart.Builder.create(this, conf.chart().name()).cluster(cluster).wait(true).timeout(Duration.minutes(15))
       .skipCrds(false).createNamespace(true).chart(conf.chart().name()).namespace(conf.chart().namespace())
       .repository(conf.chart().repository()).release(conf.chart().release()).version(conf.chart().version()).values(values).build();
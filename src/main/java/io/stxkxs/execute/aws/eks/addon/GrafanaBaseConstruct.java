@@ -1,6 +1,7 @@
 package io.stxkxs.execute.aws.eks.addon;
 
 import io.stxkxs.model.aws.eks.addon.core.GrafanaSecret;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import software.constructs.Construct;
 
@@ -77,4 +78,16 @@ public abstract class GrafanaBaseConstruct extends Construct {
     }
     return null;
   }
+
+  /**
+   * Template variables the Grafana values template is rendered with.
+   */
+  protected static Map<String, Object> variables(GrafanaSecret secret) {
+    return Map.ofEntries(Map.entry("hosted:eks:grafana:key", secret.key()), Map.entry("hosted:eks:grafana:instanceId", secret.instanceId()),
+      Map.entry("hosted:eks:grafana:lokiHost", secret.lokiHost()), Map.entry("hosted:eks:grafana:lokiUsername", secret.lokiUsername()),
+      Map.entry("hosted:eks:grafana:prometheusHost", secret.prometheusHost()),
+      Map.entry("hosted:eks:grafana:prometheusUsername", secret.prometheusUsername()),
+      Map.entry("hosted:eks:grafana:tempoHost", secret.tempoHost()), Map.entry("hosted:eks:grafana:tempoUsername", secret.tempoUsername()),
+      Map.entry("hosted:eks:grafana:pyroscopeHost", secret.pyroscopeHost()));
+  }
 }
@@ -3,14 +3,12 @@ package io.stxkxs.execute.aws.eks.addon;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.eks.addon.core.GrafanaAddon;
 import io.stxkxs.model.aws.eks.addon.core.GrafanaSecret;
 import java.util.Map;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.eks.HelmChart;
@@ -111,30 +109,35 @@ public class GrafanaConstruct extends GrafanaBaseConstruct {
    * @throws RuntimeException
    *           if template processing fails or chart deployment encounters errors
    */
-  @SneakyThrows
   public GrafanaConstruct(Construct scope, Common common, GrafanaAddon conf, ICluster cluster) {
+    this(scope, common, conf, cluster, values(scope, conf));
+  }
+
+  /**
+   * Builds the chart with values already rendered, e.g. by {@link HelmValues}. {@code null} values mean the Grafana Cloud context is
+   * missing and the deployment is skipped.
+   */
+  public GrafanaConstruct(Construct scope, Common common, GrafanaAddon conf, ICluster cluster, Map<String, Object> values) {
     super(scope, id("grafana", conf.chart().release()));
 
     log.debug("{} [common: {} conf: {}]", "GrafanaConstruct", common, conf);
 
-    var secret = createSecretFromContext(scope);
-    if (secret == null) {
+    if (values == null) {
       this.chart = null;
       return;
     }
 
-    var parsed = Template.parse(scope, conf.chart().values(),
-      Map.ofEntries(Map.entry("hosted:eks:grafana:key", secret.key()), Map.entry("hosted:eks:grafana:instanceId", secret.instanceId()),
-        Map.entry("hosted:eks:grafana:lokiHost", secret.lokiHost()), Map.entry("hosted:eks:grafana:lokiUsername", secret.lokiUsername()),
-        Map.entry("hosted:eks:grafana:prometheusHost", secret.prometheusHost()),
-        Map.entry("hosted:eks:grafana:prometheusUsername", secret.prometheusUsername()),
-        Map.entry("hosted:eks:grafana:tempoHost", secret.tempoHost()),
-        Map.entry("hosted:eks:grafana:tempoUsername", secret.tempoUsername()),
-        Map.entry("hosted:eks:grafana:pyroscopeHost", secret.pyroscopeHost())));
-
-    var values = Mapper.get().readValue(parsed, new TypeReference<Map<String, Object>>() {});
     this.chart = HelmChart.Builder.create(this, conf.chart().name()).cluster(cluster).wait(true).timeout(Duration.minutes(15))
       .skipCrds(false).createNamespace(true).chart(conf.chart().name()).namespace(conf.chart().namespace())
       .repository(conf.chart().repository()).release(conf.chart().release()).version(conf.chart().version()).values(values).build();
   }
+
+  private static Map<String, Object> values(Construct scope, GrafanaAddon conf) {
+    var secret = createSecretFromContext(scope);
+    if (secret == null) {
+      return null;
+    }
+
+    return Template.read(scope, conf.chart().values(), new TypeReference<Map<String, Object>>() {}, variables(secret));
+  }
 }
@@ -0,0 +1,105 @@
+package io.stxkxs.execute.aws.eks.addon;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.stxkxs.execute.serialization.ConfigBatch;
+import io.stxkxs.execute.serialization.TemplateContext;
+import io.stxkxs.model.aws.eks.HelmChart;
+import io.stxkxs.model.aws.eks.addon.AddonsConf;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import software.constructs.Construct;
+
+/**
+ * Pre-rendered Helm values for every chart in an {@link AddonsConf}.
+ *
+ * <p>
+ * Each addon construct used to render and bind its own {@code values} template while it was being built, one after another on the synth
+ * thread. {@link #render} submits all of them to a {@link ConfigBatch} in one pass, so they are bound in parallel with the rest of the
+ * stack and each addon construct only picks up its result.
+ *
+ * <p>
+ * The {@link AddonsConf} is shared with every addon construct and, like everything the config loader returns, is not immutable: its
+ * lists and maps are the mapper's. Treat it as read-only.
+ *
+ * <p>
+ * The Grafana context is read once here. When it is missing, the Grafana and Alloy operator charts have no values and their constructs
+ * skip the deployment, as they do when built on their own.
+ *
+ * <pre>{@code
+ * try (var batch = ConfigBatch.of(this)) {
+ *   var addons = batch.load(conf.addons(), AddonsConf.class).get();
+ *   var helm = HelmValues.render(this, batch, addons);
+ *   ...
+ *   new AddonsConstruct(this, common, conf, addons, helm, cluster);
+ * }
+ * }</pre>
+ */
+@Slf4j
+public final class HelmValues {
+  private static final TypeReference<Map<String, Object>> VALUES = new TypeReference<>() {};
+
+  private final Map<HelmChart, Supplier<Map<String, Object>>> values;
+
+  private HelmValues(Map<HelmChart, Supplier<Map<String, Object>>> values) {
+    this.values = values;
+  }
+
+  /**
+   * Submits the values template of every chart in {@code addons} to {@code batch}. Reads the Grafana context from {@code scope} on the
+   * calling thread; everything else runs off the construct tree.
+   */
+  public static HelmValues render(Construct scope, ConfigBatch batch, AddonsConf addons) {
+    var values = new LinkedHashMap<HelmChart, Supplier<Map<String, Object>>>();
+
+    Stream.of(addons.certManager().chart(), addons.csiSecretsStore().chart(), addons.awsLoadBalancer().chart(), addons.karpenter().chart())
+      .filter(chart -> chart.values() != null).forEach(chart -> values.put(chart, batch.load(chart.values(), VALUES)));
+
+    Optional.ofNullable(GrafanaBaseConstruct.createSecretFromContext(scope)).ifPresent(secret -> {
+      values.put(addons.alloyOperator().chart(), batch.load(addons.alloyOperator().chart().values(), VALUES));
+      values.put(addons.grafana().chart(),
+        batch.load(addons.grafana().chart().values(), VALUES, GrafanaBaseConstruct.variables(secret)));
+    });
+
+    log.debug("helm values submitted [charts: {}]", values.size());
+
+    return new HelmValues(values);
+  }
+
+  /**
+   * {@link #render(Construct, ConfigBatch, AddonsConf)} inline on the calling thread.
+   */
+  public static HelmValues render(Construct scope, AddonsConf addons) {
+    try (var batch = ConfigBatch.of(TemplateContext.of(scope), 1)) {
+      return render(scope, batch, addons);
+    }
+  }
+
+  /**
+   * Fills in {@code defaults} underneath the values of {@code chart}, merging nested maps, so anything the rendered values already set
+   * wins. The rendered values are copied, never modified.
+   */
+  public HelmValues defaults(HelmChart chart, Map<String, Object> defaults) {
+    var rendered = Optional.ofNullable(values.get(chart)).orElse(Map::of);
+    values.put(chart, () -> merge(defaults, rendered.get()));
+    return this;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> merge(Map<String, Object> base, Map<String, Object> overrides) {
+    var merged = new LinkedHashMap<String, Object>(base);
+    overrides.forEach((key, value) -> merged.merge(key, value, (existing, added) -> existing instanceof Map<?, ?> e
+      && added instanceof Map<?, ?> a ? merge((Map<String, Object>) e, (Map<String, Object>) a) : added));
+    return merged;
+  }
+
+  /**
+   * The bound values for {@code chart}, waiting for them if they are still being rendered, or {@code null} when the chart has none.
+   */
+  public Map<String, Object> get(HelmChart chart) {
+    return Optional.ofNullable(values.get(chart)).map(Supplier::get).orElse(null);
+  }
+}
@@ -5,13 +5,11 @@ import static io.stxkxs.execute.serialization.Format.id;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.stxkxs.execute.aws.eks.NamespaceConstruct;
 import io.stxkxs.execute.aws.eks.PodIdentityConstruct;
-import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.eks.addon.core.karpenter.KarpenterAddon;
 import java.util.Map;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.services.eks.HelmChart;
@@ -26,8 +24,14 @@ public class KarpenterConstruct extends Construct {
   private final HelmChart chart;
   private final PodIdentityConstruct podIdentity;
 
-  @SneakyThrows
   public KarpenterConstruct(Construct scope, Common common, KarpenterAddon conf, ICluster cluster) {
+    this(scope, common, conf, cluster, Template.read(scope, conf.chart().values(), new TypeReference<Map<String, Object>>() {}));
+  }
+
+  /**
+   * Builds the chart with values already rendered, e.g. by {@link HelmValues}.
+   */
+  public KarpenterConstruct(Construct scope, Common common, KarpenterAddon conf, ICluster cluster, Map<String, Object> values) {
     super(scope, id("karpenter"));
 
     log.debug("{} [common: {} conf: {}]", "KarpenterConstruct", common, conf);
@@ -36,7 +40,6 @@ public class KarpenterConstruct extends Construct {
     this.podIdentity = new PodIdentityConstruct(this, common, conf.podIdentity(), cluster);
     this.podIdentity().getNode().addDependency(this.namespace());
 
-    var values = Mapper.get().readValue(Template.parse(scope, conf.chart().values()), new TypeReference<Map<String, Object>>() {});
     this.chart = HelmChart.Builder.create(this, conf.chart().name()).cluster(cluster).wait(true).timeout(Duration.minutes(15))
       .skipCrds(false).createNamespace(false).chart(conf.chart().name()).namespace(conf.chart().namespace())
       .repository(conf.chart().repository()).release(conf.chart().release()).version(conf.chart().version()).values(values).build();
@@ -0,0 +1,217 @@
+package io.stxkxs.execute.aws.elasticache;
+
+import static io.stxkxs.execute.serialization.Format.id;
+
+import io.stxkxs.execute.aws.kms.KmsConstruct;
+import io.stxkxs.execute.aws.secretsmanager.SecretConstruct;
+import io.stxkxs.execute.aws.vpc.SecurityGroupConstruct;
+import io.stxkxs.execute.tags.Tagging;
+import io.stxkxs.model._main.Common;
+import io.stxkxs.model._main.Common.Maps;
+import io.stxkxs.model.aws.elasticache.CacheConf;
+import io.stxkxs.model.aws.elasticache.CacheUsageLimits;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.ec2.Port;
+import software.amazon.awscdk.services.ec2.SecurityGroup;
+import software.amazon.awscdk.services.ec2.SubnetSelection;
+import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.elasticache.CfnReplicationGroup;
+import software.amazon.awscdk.services.elasticache.CfnServerlessCache;
+import software.amazon.awscdk.services.elasticache.CfnSubnetGroup;
+import software.amazon.awscdk.services.kms.Key;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.secretsmanager.Secret;
+import software.constructs.Construct;
+
+/**
+ * ElastiCache (Valkey or Redis OSS) cache in the private subnets of a vpc.
+ *
+ * <p>
+ * {@code serverless: true} creates a serverless cache that scales storage and ECPUs on its own within the optional
+ * {@code usageLimits}. Otherwise a replication group of {@code nodeType} nodes is created: with {@code clusterMode} the keyspace is split
+ * over {@code shards} shards, each with {@code replicas} replicas; without it there is one primary and {@code replicas} replicas. Any
+ * replica enables automatic failover. {@code dataTiering} moves less frequently used values to local SSD and needs an {@code r6gd} node
+ * type.
+ *
+ * <p>
+ * Data is encrypted in transit and at rest, with the {@code kms} key when one is configured. Node-based caches take an AUTH token from
+ * the {@code password} of the {@code auth} secret, which must be 16 to 128 characters without spaces. {@link #connect(Function)} hands
+ * the endpoint, port and auth secret to a function and opens the cache port to it (6379 and the 6380 reader port for serverless caches);
+ * EKS workloads use {@link #environment()} and {@link #securityGroup()}.
+ *
+ * <pre>{@code
+ * name: sessions
+ * engine: valkey
+ * engineVersion: "8.0"
+ * nodeType: cache.r7g.large
+ * clusterMode: true
+ * shards: 2
+ * replicas: 1
+ * multiAz: true
+ * }</pre>
+ */
+@Slf4j
+@Getter
+public class CacheConstruct extends Construct {
+  private static final int DEFAULT_PORT = 6379;
+
+  private final SecurityGroup securityGroup;
+  private final Key key;
+  private final Secret auth;
+  private final CfnServerlessCache serverlessCache;
+  private final CfnReplicationGroup replicationGroup;
+  private final int port;
+
+  public CacheConstruct(Construct scope, Common common, CacheConf conf, Vpc vpc) {
+    super(scope, id("elasticache", conf.name()));
+
+    log.debug("{} [common: {} conf: {}]", "CacheConstruct", common, conf);
+
+    this.port = Optional.ofNullable(conf.port()).orElse(DEFAULT_PORT);
+    this.securityGroup = new SecurityGroupConstruct(this, common, conf.securityGroup(), vpc).securityGroup();
+    this.key = Optional.ofNullable(conf.kms()).map(kms -> KmsConstruct.shared(this, common, kms)).orElse(null);
+    this.auth = Optional.ofNullable(conf.auth()).map(auth -> new SecretConstruct(this, common, auth).secret()).orElse(null);
+
+    var subnetType = SubnetType.valueOf(Optional.ofNullable(conf.subnetType()).orElse("PRIVATE_WITH_EGRESS").toUpperCase());
+    var subnetIds = vpc.selectSubnets(SubnetSelection.builder().subnetType(subnetType).build()).getSubnetIds();
+
+    if (conf.serverless()) {
+      this.serverlessCache = serverless(conf, subnetIds);
+      this.replicationGroup = null;
+    } else {
+      this.serverlessCache = null;
+      this.replicationGroup = replicationGroup(conf, subnetIds);
+    }
+
+    Tagging.add(this, Maps.from(common.tags(), conf.tags()));
+  }
+
+  private CfnServerlessCache serverless(CacheConf conf, List<String> subnetIds) {
+    if (this.auth() != null) {
+      var m = String.format("error creating cache %s! auth tokens are only supported on node-based caches.", conf.name());
+      throw new RuntimeException(m);
+    }
+
+    var cache = CfnServerlessCache.Builder.create(this, conf.name()).serverlessCacheName(conf.name()).description(conf.description())
+      .engine(engine(conf)).majorEngineVersion(major(conf)).subnetIds(subnetIds)
+      .securityGroupIds(List.of(this.securityGroup().getSecurityGroupId())).snapshotRetentionLimit(conf.snapshotRetention());
+
+    Optional.ofNullable(this.key()).ifPresent(key -> cache.kmsKeyId(key.getKeyArn()));
+    Optional.ofNullable(conf.usageLimits()).ifPresent(limits -> cache.cacheUsageLimits(usageLimits(limits)));
+
+    return cache.build();
+  }
+
+  private static CfnServerlessCache.CacheUsageLimitsProperty usageLimits(CacheUsageLimits conf) {
+    var limits = CfnServerlessCache.CacheUsageLimitsProperty.builder();
+
+    if (conf.maxStorage() != null || conf.minStorage() != null) {
+      limits.dataStorage(
+        CfnServerlessCache.DataStorageProperty.builder().unit("GB").maximum(conf.maxStorage()).minimum(conf.minStorage()).build());
+    }
+
+    if (conf.maxEcpu() != null || conf.minEcpu() != null) {
+      limits.ecpuPerSecond(CfnServerlessCache.ECPUPerSecondProperty.builder().maximum(conf.maxEcpu()).minimum(conf.minEcpu()).build());
+    }
+
+    return limits.build();
+  }
+
+  private CfnReplicationGroup replicationGroup(CacheConf conf, List<String> subnetIds) {
+    if (conf.dataTiering() && (conf.nodeType() == null || !conf.nodeType().contains("r6gd"))) {
+      var m = String.format("error creating cache %s! data tiering requires an r6gd node type, not %s.", conf.name(), conf.nodeType());
+      throw new RuntimeException(m);
+    }
+
+    if (conf.auth() != null && (conf.auth().password().length() < 16 || conf.auth().password().length() > 128)) {
+      var m = String.format("error creating cache %s! an auth token needs 16 to 128 characters, not %d.", conf.name(),
+        conf.auth().password().length());
+      throw new RuntimeException(m);
+    }
+
+    if (conf.auth() != null && conf.auth().password().includeSpace()) {
+      var m = String.format("error creating cache %s! an auth token cannot contain spaces.", conf.name());
+      throw new RuntimeException(m);
+    }
+
+    var subnetGroup = CfnSubnetGroup.Builder.create(this, id("elasticache.subnets", conf.name())).cacheSubnetGroupName(conf.name())
+      .description(String.format("%s cache subnets", conf.name())).subnetIds(subnetIds).build();
+
+    var replicas = Optional.ofNullable(conf.replicas()).orElse(0);
+    var group = CfnReplicationGroup.Builder.create(this, conf.name()).replicationGroupId(conf.name())
+      .replicationGroupDescription(Optional.ofNullable(conf.description()).orElse(conf.name())).engine(engine(conf))
+      .engineVersion(conf.engineVersion()).cacheNodeType(conf.nodeType()).cacheSubnetGroupName(subnetGroup.getRef())
+      .cacheParameterGroupName(parameterGroup(conf)).securityGroupIds(List.of(this.securityGroup().getSecurityGroupId()))
+      .port(this.port()).transitEncryptionEnabled(true).atRestEncryptionEnabled(true).automaticFailoverEnabled(replicas > 0)
+      .multiAzEnabled(conf.multiAz() && replicas > 0).dataTieringEnabled(conf.dataTiering())
+      .snapshotRetentionLimit(conf.snapshotRetention());
+
+    if (conf.clusterMode()) {
+      group.clusterMode("enabled").numNodeGroups(Optional.ofNullable(conf.shards()).orElse(1)).replicasPerNodeGroup(replicas);
+    } else {
+      group.clusterMode("disabled").numCacheClusters(1 + replicas);
+    }
+
+    Optional.ofNullable(this.key()).ifPresent(key -> group.kmsKeyId(key.getKeyArn()));
+    Optional.ofNullable(this.auth()).ifPresent(auth -> group.authToken(auth.secretValueFromJson("password").unsafeUnwrap()));
+
+    var replicationGroup = group.build();
+    replicationGroup.addDependency(subnetGroup);
+
+    return replicationGroup;
+  }
+
+  /**
+   * The default parameter group for the engine's major version, e.g. {@code default.valkey8.cluster.on} in cluster mode.
+   */
+  private static String parameterGroup(CacheConf conf) {
+    var cluster = conf.clusterMode() ? ".cluster.on" : "";
+    return Optional.ofNullable(conf.parameterGroup()).orElseGet(() -> String.format("default.%s%s%s", engine(conf), major(conf), cluster));
+  }
+
+  private static String engine(CacheConf conf) {
+    return Optional.ofNullable(conf.engine()).orElse("valkey").toLowerCase();
+  }
+
+  private static String major(CacheConf conf) {
+    var fallback = engine(conf).equals("redis") ? "7" : "8";
+    return Optional.ofNullable(conf.engineVersion()).map(version -> version.split("\\.")[0]).orElse(fallback);
+  }
+
+  /**
+   * Primary endpoint for a non-clustered replication group, configuration endpoint in cluster mode, or the serverless endpoint.
+   */
+  public String endpoint() {
+    if (serverlessCache != null) {
+      return serverlessCache.getAttrEndpointAddress();
+    }
+
+    return "enabled".equals(replicationGroup.getClusterMode()) ? replicationGroup.getAttrConfigurationEndPointAddress()
+      : replicationGroup.getAttrPrimaryEndPointAddress();
+  }
+
+  public Map<String, String> environment() {
+    var environment = new LinkedHashMap<String, String>();
+    environment.put("CACHE_ENDPOINT", endpoint());
+    environment.put("CACHE_PORT", serverlessCache != null ? serverlessCache.getAttrEndpointPort() : String.valueOf(port));
+    Optional.ofNullable(auth).ifPresent(secret -> environment.put("CACHE_AUTH_SECRET", secret.getSecretArn()));
+    return environment;
+  }
+
+  /**
+   * Points {@code function} at the cache: adds the endpoint to its environment, lets it read the auth secret and opens the cache port.
+   */
+  public void connect(Function function) {
+    environment().forEach(function::addEnvironment);
+    Optional.ofNullable(auth).ifPresent(secret -> secret.grantRead(function));
+    var ports = serverlessCache != null ? Port.tcpRange(DEFAULT_PORT, DEFAULT_PORT + 1) : Port.tcp(port);
+    this.securityGroup().getConnections().allowFrom(function, ports,
+      String.format("cache access from %s", function.getNode().getId()));
+  }
+}
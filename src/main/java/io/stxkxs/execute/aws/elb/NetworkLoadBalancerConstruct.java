@@ -2,13 +2,13 @@ package io.stxkxs.execute.aws.elb;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.loadbalancer.LoadBalancer;
 import java.util.List;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ec2.Vpc;
@@ -30,6 +30,6 @@ public class NetworkLoadBalancerConstruct extends Construct {
       .securityGroups(securityGroups).crossZoneEnabled(conf.crossZoneEnabled()).deletionProtection(conf.deletionProtection())
       .internetFacing(conf.internetFacing()).build();
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this.networkLoadBalancer()).add(key, value));
+    Tagging.add(this.networkLoadBalancer(), Maps.from(common.tags(), conf.tags()));
   }
 }
@@ -2,13 +2,13 @@ package io.stxkxs.execute.aws.elb;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.loadbalancer.LoadBalancer;
 import java.util.List;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ec2.Vpc;
 import software.amazon.awscdk.services.elasticloadbalancingv2.BaseNetworkListenerProps;
 import software.amazon.awscdk.services.elasticloadbalancingv2.HealthCheck;
@@ -44,9 +44,8 @@ public class NetworkTargetGroupConstruct extends Construct {
       BaseNetworkListenerProps.builder().port(target.port()).protocol(Protocol.valueOf(target.protocol().toUpperCase()))
         .defaultAction(NetworkListenerAction.forward(List.of(this.networkTargetGroup()))).build());
 
-    Maps.from(conf.tags(), common.tags()).forEach((key, value) -> {
-      Tags.of(this.networkTargetGroup()).add(key, value);
-      Tags.of(this.networkListener()).add(key, value);
-    });
+    var tags = Maps.from(conf.tags(), common.tags());
+    Tagging.add(this.networkTargetGroup(), tags);
+    Tagging.add(this.networkListener(), tags);
   }
 }
@@ -1,8 +1,7 @@
 package io.stxkxs.execute.aws.iam;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.stxkxs.execute.serialization.Mapper;
-import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.serialization.ConfigLoader;
 import io.stxkxs.model.aws.iam.PolicyConf;
 import io.stxkxs.model.aws.iam.PolicyStatementConf;
 import java.util.List;
@@ -26,9 +25,7 @@ public class IamPolicy {
       .conditions(s.conditions()).build();
   }
 
-  @SneakyThrows
   public static List<PolicyStatementConf> parse(Construct scope, PolicyConf conf) {
-    var parsed = Template.parse(scope, conf.policy(), conf.mappings());
-    return Mapper.get().readValue(parsed, new TypeReference<>() {});
+    return ConfigLoader.load(scope, conf.policy(), new TypeReference<>() {}, conf.mappings());
   }
 }
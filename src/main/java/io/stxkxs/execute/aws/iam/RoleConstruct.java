@@ -3,6 +3,8 @@ package io.stxkxs.execute.aws.iam;
 import static io.stxkxs.execute.serialization.Format.id;
 import static java.util.stream.Collectors.toMap;
 
+import io.stxkxs.execute.registry.Registry;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.iam.IamRole;
@@ -11,8 +13,8 @@ import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.iam.IPrincipal;
+import software.amazon.awscdk.services.iam.IRole;
 import software.amazon.awscdk.services.iam.ManagedPolicy;
 import software.amazon.awscdk.services.iam.PolicyDocument;
 import software.amazon.awscdk.services.iam.Role;
@@ -152,7 +154,7 @@ public class RoleConstruct extends Construct {
       .managedPolicies(conf.managedPolicyNames().stream().map(ManagedPolicy::fromAwsManagedPolicyName).toList())
       .inlinePolicies(inlinePolicies(conf.customPolicies())).build();
 
-    Maps.from(common.tags(), conf.tags()).forEach((k, v) -> Tags.of(this.role()).add(k, v));
+    Tagging.add(this.role(), Maps.from(common.tags(), conf.tags()));
   }
 
   public RoleConstruct(Construct scope, Common common, IamRole conf) {
@@ -165,7 +167,24 @@ public class RoleConstruct extends Construct {
       .managedPolicies(conf.managedPolicyNames().stream().map(ManagedPolicy::fromAwsManagedPolicyName).toList())
       .inlinePolicies(inlinePolicies(conf.customPolicies())).build();
 
-    Maps.from(common.tags(), conf.tags()).forEach((k, v) -> Tags.of(this.role()).add(k, v));
+    Tagging.add(this.role(), Maps.from(common.tags(), conf.tags()));
+  }
+
+  /**
+   * The role for {@code conf} shared within the enclosing stack: constructs asking for an identical {@code IamRole} record get the same
+   * role. Roles built with an explicit principal are not shared, since principals have no value identity.
+   *
+   * @see Registry
+   */
+  public static Role shared(Construct scope, Common common, IamRole conf) {
+    return Registry.shared(scope, IamRole.class, conf, () -> new RoleConstruct(scope, common, conf).role());
+  }
+
+  /**
+   * A lookup of an existing role by arn, shared within the enclosing stack.
+   */
+  public static IRole lookup(Construct scope, String id, String arn) {
+    return Registry.shared(scope, IRole.class, arn, () -> Role.fromRoleArn(scope, id, arn));
   }
 
   private Map<String, PolicyDocument> inlinePolicies(List<PolicyConf> customPolicies) {
@@ -2,12 +2,13 @@ package io.stxkxs.execute.aws.kms;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.registry.Registry;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.kms.Kms;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.RemovalPolicy;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.kms.Key;
 import software.amazon.awscdk.services.kms.KeySpec;
 import software.amazon.awscdk.services.kms.KeyUsage;
@@ -28,6 +29,18 @@ public class KmsConstruct extends Construct {
       .keySpec(KeySpec.valueOf(conf.keySpec().toUpperCase())).removalPolicy(RemovalPolicy.valueOf(conf.removalPolicy().toUpperCase()))
       .build();
 
-    common.tags().forEach((k, v) -> Tags.of(this.key()).add(k, v));
+    Tagging.add(this.key(), common.tags());
+  }
+
+  /**
+   * The key for {@code conf} shared within the enclosing stack: constructs asking for an identical {@code Kms} record get the same key.
+   *
+   * @see Registry
+   */
+  public static Key shared(Construct scope, Common common, Kms conf) {
+    var normalized = new Kms(conf.alias(), conf.description(), conf.enabled(), conf.enableKeyRotation(), conf.keyUsage().toUpperCase(),
+      conf.keySpec().toUpperCase(), conf.removalPolicy().toUpperCase());
+
+    return Registry.shared(scope, Kms.class, normalized, () -> new KmsConstruct(scope, common, conf).key());
   }
 }
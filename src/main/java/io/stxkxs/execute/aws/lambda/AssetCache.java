@@ -0,0 +1,177 @@
+package io.stxkxs.execute.aws.lambda;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.stxkxs.execute.registry.Registry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.AssetHashType;
+import software.amazon.awscdk.Stage;
+import software.amazon.awscdk.services.lambda.AssetCode;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.s3.assets.AssetOptions;
+import software.constructs.Construct;
+
+/**
+ * Content-addressed Lambda asset code, fingerprinted once per directory and reused across constructs and synths.
+ *
+ * <p>
+ * {@code Code.fromAsset} fingerprints the whole directory tree every time it is called, and a function and its layers often point at the
+ * same directory. {@link #code} returns one {@link AssetCode} per path and stack, and hands CDK a precomputed
+ * {@link AssetHashType#CUSTOM custom hash} so it neither fingerprints nor re-stages an unchanged asset.
+ *
+ * <p>
+ * The hash is the SHA-256 of every file's relative path and contents. It is stored in {@value #FILE} under the cloud assembly directory
+ * together with a manifest of each file's relative path, size and modification time; on the next synth a directory whose manifest is
+ * unchanged reuses the stored hash without reading any file. Set the {@code synth:asset:cache} context value to {@code false} to fall
+ * back to CDK's own fingerprinting.
+ *
+ * <pre>{@code
+ * var code = AssetCache.code(this, conf.asset());
+ * }</pre>
+ */
+@Slf4j
+public final class AssetCache {
+  public static final String FLAG = "synth:asset:cache";
+  public static final String FILE = "asset-fingerprints.json";
+
+  private static final ObjectMapper json = new ObjectMapper();
+  private static final Map<Path, Map<String, Fingerprint>> fingerprints = new HashMap<>();
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private AssetCache() {}
+
+  public static AssetCode code(Construct scope, String asset) {
+    var enabled = Optional.ofNullable(scope.getNode().tryGetContext(FLAG)).map(Object::toString).map(Boolean::parseBoolean).orElse(true);
+    if (!enabled) {
+      return Code.fromAsset(asset);
+    }
+
+    var path = Path.of(asset).toAbsolutePath().normalize();
+    return Registry.shared(scope, AssetCode.class, path, () -> Code.fromAsset(asset,
+      AssetOptions.builder().assetHashType(AssetHashType.CUSTOM).assetHash(hash(Path.of(Stage.of(scope).getOutdir()), path)).build()));
+  }
+
+  /**
+   * The content hash of {@code path}, taken from the fingerprints stored in {@code outdir} when the file manifest still matches.
+   */
+  public static synchronized String hash(Path outdir, Path path) {
+    var stored = fingerprints.computeIfAbsent(outdir, AssetCache::read);
+    var key = path.toString();
+    var manifest = manifest(path);
+
+    var fingerprint = stored.get(key);
+    if (fingerprint != null && fingerprint.manifest().equals(manifest)) {
+      hits.incrementAndGet();
+      log.debug("asset fingerprint unchanged [path: {} hash: {}]", path, fingerprint.hash());
+      return fingerprint.hash();
+    }
+
+    misses.incrementAndGet();
+    var hash = content(path);
+    stored.put(key, new Fingerprint(manifest, hash));
+    write(outdir, stored);
+
+    log.debug("asset fingerprinted [path: {} hash: {}]", path, hash);
+    return hash;
+  }
+
+  @SneakyThrows
+  private static String manifest(Path path) {
+    var digest = MessageDigest.getInstance("SHA-256");
+    try (var files = files(path)) {
+      files.forEach(file -> digest.update(String.format("%s:%d:%d%n", relative(path, file), size(file), modified(file))
+        .getBytes(StandardCharsets.UTF_8)));
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  @SneakyThrows
+  private static String content(Path path) {
+    var digest = MessageDigest.getInstance("SHA-256");
+    var buffer = new byte[64 * 1024];
+    try (var files = files(path)) {
+      for (var file : (Iterable<Path>) files::iterator) {
+        digest.update(relative(path, file).getBytes(StandardCharsets.UTF_8));
+        try (InputStream in = Files.newInputStream(file)) {
+          for (int read; (read = in.read(buffer)) > 0;) {
+            digest.update(buffer, 0, read);
+          }
+        }
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static Stream<Path> files(Path path) throws IOException {
+    if (!Files.exists(path)) {
+      var m = String.format("error fingerprinting asset! %s does not exist.", path);
+      throw new RuntimeException(m);
+    }
+
+    return Files.walk(path).filter(Files::isRegularFile).sorted();
+  }
+
+  private static String relative(Path root, Path file) {
+    return root.equals(file) ? file.getFileName().toString() : root.relativize(file).toString().replace('\\', '/');
+  }
+
+  @SneakyThrows
+  private static long size(Path file) {
+    return Files.size(file);
+  }
+
+  @SneakyThrows
+  private static long modified(Path file) {
+    return Files.getLastModifiedTime(file).toMillis();
+  }
+
+  private static Map<String, Fingerprint> read(Path outdir) {
+    var file = outdir.resolve(FILE);
+    if (!Files.isRegularFile(file)) {
+      return new TreeMap<>();
+    }
+
+    try {
+      return new TreeMap<>(json.readValue(file.toFile(), new TypeReference<Map<String, Fingerprint>>() {}));
+    } catch (IOException e) {
+      log.warn("ignoring unreadable asset fingerprints {}: {}", file, e.getMessage());
+      return new TreeMap<>();
+    }
+  }
+
+  private static void write(Path outdir, Map<String, Fingerprint> stored) {
+    try {
+      Files.createDirectories(outdir);
+      json.writerWithDefaultPrettyPrinter().writeValue(outdir.resolve(FILE).toFile(), stored);
+    } catch (IOException e) {
+      log.warn("unable to store asset fingerprints in {}: {}", outdir, e.getMessage());
+    }
+  }
+
+  public static synchronized void clear() {
+    fingerprints.clear();
+  }
+
+  public static Stats stats() {
+    return new Stats(hits.get(), misses.get());
+  }
+
+  public record Fingerprint(String manifest, String hash) {}
+
+  public record Stats(long hits, long misses) {}
+}
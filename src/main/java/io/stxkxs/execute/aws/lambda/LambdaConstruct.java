@@ -5,6 +5,7 @@ import static io.stxkxs.execute.serialization.Format.id;
 import io.stxkxs.execute.aws.iam.RoleConstruct;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model.aws.fn.Lambda;
+import io.stxkxs.model.aws.fn.LambdaAlias;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -12,16 +13,22 @@ import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.applicationautoscaling.ScalingSchedule;
+import software.amazon.awscdk.services.applicationautoscaling.Schedule;
 import software.amazon.awscdk.services.ec2.IVpc;
 import software.amazon.awscdk.services.ec2.SubnetSelection;
 import software.amazon.awscdk.services.ec2.SubnetType;
+import software.amazon.awscdk.services.lambda.Alias;
 import software.amazon.awscdk.services.lambda.Architecture;
-import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.AutoScalingOptions;
 import software.amazon.awscdk.services.lambda.CodeSigningConfig;
 import software.amazon.awscdk.services.lambda.Function;
 import software.amazon.awscdk.services.lambda.Function.Builder;
+import software.amazon.awscdk.services.lambda.IFunction;
+import software.amazon.awscdk.services.lambda.ILayerVersion;
 import software.amazon.awscdk.services.lambda.LayerVersion;
-import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.lambda.SnapStartConf;
+import software.amazon.awscdk.services.lambda.UtilizationScalingOptions;
 import software.amazon.awscdk.services.signer.Platform;
 import software.amazon.awscdk.services.signer.SigningProfile;
 import software.constructs.Construct;
@@ -62,6 +69,17 @@ import software.constructs.Construct;
  * </ul>
  *
  * <p>
+ * <b>Cold Starts and Concurrency:</b>
+ * <ul>
+ * <li><b>Architecture</b> - {@code architecture: arm64} runs the function and its layers on Graviton</li>
+ * <li><b>SnapStart</b> - {@code snapStart: true} restores published versions from a snapshot on Java 11+, Python 3.12+ and .NET 8+;
+ * requires an {@code alias}, which publishes the version that {@link #handler()} invokes</li>
+ * <li><b>Provisioned Concurrency</b> - an {@code alias} keeps initialized environments warm, optionally autoscaled on utilization and on
+ * a schedule; {@link #handler()} returns the alias so integrations invoke it</li>
+ * <li><b>Reserved Concurrency</b> - {@code reservedConcurrency} caps the function and guarantees it that share of the account limit</li>
+ * </ul>
+ *
+ * <p>
  * <b>VPC Integration Architecture:</b> The construct provides sophisticated VPC networking capabilities:
  * <ul>
  * <li><b>Subnet Selection</b> - Automatic private subnet selection for security</li>
@@ -125,8 +143,9 @@ import software.constructs.Construct;
  * // Lambda with additional layers
  * LambdaConstruct advancedLambda = new LambdaConstruct(this, common, lambdaConfig, vpc, commonLayer, utilityLayer);
  *
- * // Access the Lambda function
+ * // Access the Lambda function, or the alias to invoke when one is configured
  * Function function = lambda.getFunction();
+ * IFunction handler = lambda.handler();
  *
  * // The construct automatically handles:
  * // - IAM role creation with necessary permissions
@@ -149,42 +168,125 @@ import software.constructs.Construct;
 @Getter
 public class LambdaConstruct extends Construct {
   private final Function function;
+  private final Alias alias;
 
   public LambdaConstruct(Construct scope, Common common, Lambda conf, IVpc vpc) {
-    super(scope, id("lambda", conf.name()));
-
-    log.debug("{} [common: {} conf: {}]", "LambdaConstruct", common, conf);
+    this(scope, common, conf, vpc, (String) null);
+  }
 
-    this.function = build(common, conf, vpc, layers(conf));
+  public LambdaConstruct(Construct scope, Common common, Lambda conf, IVpc vpc, ILayerVersion... layers) {
+    this(scope, common, conf, vpc, null, layers);
   }
 
-  public LambdaConstruct(Construct scope, Common common, Lambda conf, IVpc vpc, LayerVersion... layers) {
+  /**
+   * {@code architecture} is used when {@code conf} does not name one, e.g. the {@code ApiConf} architecture for every API handler.
+   */
+  public LambdaConstruct(Construct scope, Common common, Lambda conf, IVpc vpc, String architecture, ILayerVersion... layers) {
     super(scope, id("lambda", conf.name()));
 
     log.debug("{} [common: {} conf: {}]", "LambdaConstruct", common, conf);
 
-    this.function = build(common, conf, vpc, layers(conf, layers));
+    var arch = architecture(Optional.ofNullable(conf.architecture()).orElse(architecture));
+    this.function = build(common, conf, vpc, arch, layers(conf, arch, layers));
+    this.alias = Optional.ofNullable(conf.alias()).map(alias -> alias(conf, alias)).orElse(null);
+  }
+
+  /**
+   * The alias when one is configured, so callers invoke the provisioned version, otherwise the function itself.
+   */
+  public IFunction handler() {
+    return alias != null ? alias : function;
   }
 
-  private Function build(Common common, Lambda conf, IVpc vpc, List<LayerVersion> layers) {
-    var role = new RoleConstruct(this, common, conf.role()).role();
-    return Builder.create(this, conf.name()).vpc(vpc)
+  /**
+   * {@code arm64} (Graviton) or {@code x86_64}, the default.
+   */
+  public static Architecture architecture(String name) {
+    return Optional.ofNullable(name).map(String::toLowerCase).map(a -> switch (a) {
+      case "arm64", "arm_64" -> Architecture.ARM_64;
+      case "x86_64", "x86", "amd64" -> Architecture.X86_64;
+      default -> {
+        var m = String.format("error resolving lambda architecture! %s is not one of arm64, x86_64.", name);
+        throw new RuntimeException(m);
+      }
+    }).orElse(Architecture.X86_64);
+  }
+
+  private Function build(Common common, Lambda conf, IVpc vpc, Architecture architecture, List<ILayerVersion> layers) {
+    var role = RoleConstruct.shared(this, common, conf.role());
+    var builder = Builder.create(this, conf.name()).vpc(vpc)
       .vpcSubnets(SubnetSelection.builder().subnetType(SubnetType.valueOf(conf.subnetType().toUpperCase())).build()).role(role)
-      .functionName(conf.name()).description(conf.description()).runtime(conf.runtime()).architecture(Architecture.X86_64)
+      .functionName(conf.name()).description(conf.description()).runtime(conf.runtime()).architecture(architecture)
       .codeSigningConfig(CodeSigningConfig.Builder.create(this, id("code.signing", conf.name()))
         .signingProfiles(List
           .of(SigningProfile.Builder.create(this, id("signing.profile", conf.name())).platform(Platform.AWS_LAMBDA_SHA384_ECDSA).build()))
         .build())
-      .code(Code.fromAsset(conf.asset())).environment(conf.environment()).handler(conf.handler()).timeout(Duration.seconds(conf.timeout()))
-      .memorySize(conf.memorySize()).layers(layers).build();
+      .code(AssetCache.code(this, conf.asset())).environment(conf.environment()).handler(conf.handler())
+      .timeout(Duration.seconds(conf.timeout())).memorySize(conf.memorySize()).reservedConcurrentExecutions(conf.reservedConcurrency())
+      .layers(layers);
+
+    if (conf.snapStart()) {
+      snapStart(conf);
+      builder.snapStart(SnapStartConf.ON_PUBLISHED_VERSIONS);
+    }
+
+    return builder.build();
   }
 
-  private List<LayerVersion> layers(Lambda conf, LayerVersion... layers) {
+  /**
+   * SnapStart restores published versions from a snapshot instead of initializing them, which removes most of the JVM cold start. It is
+   * only available for Java 11+, Python 3.12+ and .NET 8+ and cannot be combined with provisioned concurrency. It needs an {@code alias}:
+   * only the version the alias publishes is restored, while the unqualified function still runs {@code $LATEST} with a full cold start.
+   */
+  private static void snapStart(Lambda conf) {
+    var runtime = conf.runtime().getName();
+    var supported = runtime.matches("java(1[1-9]|[2-9]\\d)") || runtime.matches("python3\\.(1[2-9]|[2-9]\\d)")
+      || runtime.matches("dotnet([8-9]|\\d{2,})");
+
+    if (!supported) {
+      var m = String.format("error creating lambda %s! snap start is not supported on %s.", conf.name(), runtime);
+      throw new RuntimeException(m);
+    }
+
+    if (conf.alias() == null) {
+      var m = String.format("error creating lambda %s! snap start requires an alias to publish and invoke a version.", conf.name());
+      throw new RuntimeException(m);
+    }
+
+    if (conf.alias().provisionedConcurrency() != null) {
+      var m = String.format("error creating lambda %s! snap start cannot be combined with provisioned concurrency.", conf.name());
+      throw new RuntimeException(m);
+    }
+  }
+
+  /**
+   * Points an alias at the current version, with provisioned concurrency and, when configured, application autoscaling of it on
+   * utilization and on a schedule, e.g. to pre-warm ahead of business hours.
+   */
+  private Alias alias(Lambda conf, LambdaAlias alias) {
+    var name = Optional.ofNullable(alias.name()).orElse("live");
+    var created = Alias.Builder.create(this, id("alias", conf.name(), name)).aliasName(name).version(function.getCurrentVersion())
+      .provisionedConcurrentExecutions(alias.provisionedConcurrency()).build();
+
+    Optional.ofNullable(alias.autoscaling()).ifPresent(autoscaling -> {
+      var capacity = created.addAutoScaling(
+        AutoScalingOptions.builder().minCapacity(autoscaling.minCapacity()).maxCapacity(autoscaling.maxCapacity()).build());
+
+      Optional.ofNullable(autoscaling.utilization())
+        .ifPresent(target -> capacity.scaleOnUtilization(UtilizationScalingOptions.builder().utilizationTarget(target).build()));
+
+      Optional.ofNullable(autoscaling.schedules()).orElse(List.of()).forEach(schedule -> capacity.scaleOnSchedule(schedule.name(),
+        ScalingSchedule.builder().schedule(Schedule.expression(schedule.expression())).minCapacity(schedule.minCapacity())
+          .maxCapacity(schedule.maxCapacity()).build()));
+    });
+
+    return created;
+  }
+
+  private List<ILayerVersion> layers(Lambda conf, Architecture architecture, ILayerVersion... layers) {
     return Stream.concat(
-      conf.layers().stream()
-        .map(layer -> LayerVersion.Builder.create(this, id("layer", layer.name())).layerVersionName(layer.name())
-          .code(Code.fromAsset(conf.asset())).removalPolicy(layer.removalPolicy()).compatibleArchitectures(List.of(Architecture.X86_64))
-          .compatibleRuntimes(layer.runtimes().stream().map(r -> Runtime.Builder.create(r).build()).toList()).build()),
+      Optional.ofNullable(conf.layers()).orElse(List.of()).stream().map(layer -> LayerConstruct.shared(this, layer, List.of(architecture))),
       Optional.ofNullable(layers).stream().flatMap(Arrays::stream)).toList();
   }
+
 }
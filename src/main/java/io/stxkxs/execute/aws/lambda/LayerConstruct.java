@@ -0,0 +1,88 @@
+package io.stxkxs.execute.aws.lambda;
+
+import static io.stxkxs.execute.serialization.Format.id;
+
+import io.stxkxs.execute.registry.Registry;
+import io.stxkxs.model.aws.fn.LambdaLayer;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.services.lambda.Architecture;
+import software.amazon.awscdk.services.lambda.ILayerVersion;
+import software.amazon.awscdk.services.lambda.LayerVersion;
+import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.ssm.StringParameter;
+import software.constructs.Construct;
+
+/**
+ * Lambda layer built from its own {@code asset}, or imported from another stack.
+ *
+ * <p>
+ * A layer with an {@code asset} is published from that directory and, when it names a {@code parameter}, its version arn is exported to
+ * that SSM parameter. A layer with only a {@code parameter} is imported from the arn stored there, so one stack can publish a shared
+ * layer and the others reuse it instead of uploading their own copy.
+ *
+ * <pre>{@code
+ * layers:
+ *   - name: shared-deps
+ *     asset: target/layers/shared-deps.zip
+ *     runtimes: [ java21 ]
+ *     parameter: /layers/shared-deps
+ * }</pre>
+ */
+@Slf4j
+@Getter
+public class LayerConstruct extends Construct {
+  private final ILayerVersion layer;
+
+  public LayerConstruct(Construct scope, LambdaLayer conf, List<Architecture> architectures) {
+    super(scope, id("layer", conf.name()));
+
+    log.debug("{} [conf: {} architectures: {}]", "LayerConstruct", conf, architectures);
+
+    this.layer = layer(this, conf.name(), conf, architectures);
+  }
+
+  private static ILayerVersion layer(Construct scope, String layerId, LambdaLayer conf, List<Architecture> architectures) {
+    if (conf.asset() == null) {
+      if (conf.parameter() == null) {
+        var m = String.format("error creating lambda layer %s! either an asset or an ssm parameter is required.", conf.name());
+        throw new RuntimeException(m);
+      }
+
+      return LayerVersion.fromLayerVersionArn(scope, layerId, StringParameter.valueForStringParameter(scope, conf.parameter()));
+    }
+
+    var layer = LayerVersion.Builder.create(scope, layerId).layerVersionName(conf.name()).code(AssetCache.code(scope, conf.asset()))
+      .removalPolicy(conf.removalPolicy()).compatibleArchitectures(architectures)
+      .compatibleRuntimes(Optional.ofNullable(conf.runtimes()).orElse(List.of()).stream().map(r -> Runtime.Builder.create(r).build())
+        .toList())
+      .build();
+
+    Optional.ofNullable(conf.parameter()).ifPresent(parameter -> StringParameter.Builder.create(scope, id("ssm", conf.name()))
+      .parameterName(parameter).stringValue(layer.getLayerVersionArn()).build());
+
+    return layer;
+  }
+
+  /**
+   * The layer for {@code conf} shared within the enclosing stack: functions declaring an identical layer for the same architectures get
+   * the same layer version.
+   *
+   * @see Registry
+   */
+  public static ILayerVersion shared(Construct scope, LambdaLayer conf, List<Architecture> architectures) {
+    var key = List.of(conf, architectures.stream().map(Architecture::getName).sorted().toList());
+    return Registry.shared(scope, LambdaLayer.class, key, () -> new LayerConstruct(scope, conf, architectures).layer());
+  }
+
+  /**
+   * {@link #shared(Construct, LambdaLayer, List)}, but built directly under {@code scope} as {@code layerId} instead of inside a
+   * {@code LayerConstruct}, so a layer that was created that way keeps its logical id and is not replaced.
+   */
+  public static ILayerVersion shared(Construct scope, String layerId, LambdaLayer conf, List<Architecture> architectures) {
+    var key = List.of(conf, architectures.stream().map(Architecture::getName).sorted().toList());
+    return Registry.shared(scope, LambdaLayer.class, key, () -> layer(scope, layerId, conf, architectures));
+  }
+}
@@ -3,17 +3,25 @@ package io.stxkxs.execute.aws.rds;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.aws.secretsmanager.SecretConstruct;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.rds.Rds;
 import io.stxkxs.model.aws.rds.RdsReader;
+import io.stxkxs.model.aws.rds.RdsReaderScaling;
 import io.stxkxs.model.aws.rds.RdsWriter;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.RemovalPolicy;
-import software.amazon.awscdk.Tags;
+import software.amazon.awscdk.services.applicationautoscaling.BasicTargetTrackingScalingPolicyProps;
+import software.amazon.awscdk.services.applicationautoscaling.PredefinedMetric;
+import software.amazon.awscdk.services.applicationautoscaling.ScalableTarget;
+import software.amazon.awscdk.services.applicationautoscaling.ServiceNamespace;
 import software.amazon.awscdk.services.ec2.ISecurityGroup;
+import software.amazon.awscdk.services.ec2.InstanceType;
 import software.amazon.awscdk.services.ec2.Vpc;
 import software.amazon.awscdk.services.rds.AuroraPostgresClusterEngineProps;
 import software.amazon.awscdk.services.rds.AuroraPostgresEngineVersion;
@@ -24,6 +32,7 @@ import software.amazon.awscdk.services.rds.DatabaseCluster;
 import software.amazon.awscdk.services.rds.DatabaseClusterEngine;
 import software.amazon.awscdk.services.rds.IClusterInstance;
 import software.amazon.awscdk.services.rds.PerformanceInsightRetention;
+import software.amazon.awscdk.services.rds.ProvisionedClusterInstanceProps;
 import software.amazon.awscdk.services.rds.ServerlessV2ClusterInstanceProps;
 import software.constructs.Construct;
 
@@ -40,8 +49,9 @@ import software.constructs.Construct;
  * <ul>
  * <li><b>Aurora Cluster</b> - PostgreSQL-compatible Aurora cluster with multi-AZ deployment</li>
  * <li><b>Read Replicas</b> - Multiple read replica instances for read scaling</li>
- * <li><b>Serverless v2</b> - Auto-scaling compute capacity based on workload</li>
+ * <li><b>Serverless v2</b> - Auto-scaling compute capacity between {@code minCapacity} and {@code maxCapacity} ACUs</li>
  * <li><b>Credential Management</b> - Secure database credentials via AWS Secrets Manager</li>
+ * <li><b>Connection Pooling</b> - Optional RDS Proxy with writer and read-only endpoints</li>
  * </ul>
  *
  * <p>
@@ -49,7 +59,7 @@ import software.constructs.Construct;
  * <ul>
  * <li><b>Multi-AZ Deployment</b> - Cross-availability zone database placement</li>
  * <li><b>Automatic Failover</b> - Built-in failover mechanisms for high availability</li>
- * <li><b>Read Scaling</b> - Multiple read replica instances for performance</li>
+ * <li><b>Read Scaling</b> - Serverless and provisioned readers, plus replica auto scaling on reader CPU or connections</li>
  * <li><b>Backup and Recovery</b> - Automated backups with point-in-time recovery</li>
  * </ul>
  *
@@ -124,6 +134,7 @@ import software.constructs.Construct;
  * @author CDK Common Framework
  * @see DatabaseCluster for Aurora cluster management
  * @see SecretConstruct for credential management
+ * @see RdsProxyConstruct for connection pooling
  * @see ClusterInstance for database instance configuration
  * @see Rds for database configuration model
  * @since 1.0.0
@@ -133,6 +144,7 @@ import software.constructs.Construct;
 public class RdsConstruct extends Construct {
   private final DatabaseCluster cluster;
   private final SecretConstruct secretConstruct;
+  private final RdsProxyConstruct proxy;
 
   public RdsConstruct(Construct scope, Common common, Rds conf, Vpc vpc, List<ISecurityGroup> securityGroups) {
     super(scope, id("rds", conf.name()));
@@ -146,11 +158,17 @@ public class RdsConstruct extends Construct {
       .engine(DatabaseClusterEngine.auroraPostgres(AuroraPostgresClusterEngineProps.builder()
         .version(AuroraPostgresEngineVersion.of(conf.version(), conf.version().split("\\.")[0])).build()))
       .defaultDatabaseName(conf.databaseName()).enableDataApi(conf.enableDataApi())
-      .storageType(DBClusterStorageType.valueOf(conf.storageType().toUpperCase())).writer(writer(conf.writer()))
+      .storageType(storageType(conf.storageType())).serverlessV2MinCapacity(conf.minCapacity())
+      .serverlessV2MaxCapacity(conf.maxCapacity()).writer(writer(conf.writer()))
       .readers(conf.readers().stream().map(RdsConstruct::reader).toList())
       .removalPolicy(RemovalPolicy.valueOf(conf.removalPolicy().toUpperCase())).deletionProtection(conf.deletionProtection()).build();
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this.cluster()).add(key, value));
+    Tagging.add(this.cluster(), Maps.from(common.tags(), conf.tags()));
+
+    Optional.ofNullable(conf.readerScaling()).ifPresent(scaling -> readerScaling(conf, scaling));
+
+    this.proxy = Optional.ofNullable(conf.proxy()).map(proxy -> new RdsProxyConstruct(this, common, proxy, this.cluster(),
+      this.secretConstruct().secret(), vpc, securityGroups, Maps.from(common.tags(), conf.tags()))).orElse(null);
   }
 
   private static IClusterInstance writer(RdsWriter w) {
@@ -161,11 +179,74 @@ public class RdsConstruct extends Construct {
         .performanceInsightRetention(PerformanceInsightRetention.valueOf(w.performanceInsights().retention().toUpperCase())).build());
   }
 
+  /**
+   * Serverless v2 readers in promotion tier 0 or 1 scale with the writer, so they can take over at the writer's capacity. CDK places every
+   * other serverless reader in tier 2, so a higher {@code promotionTier} is only accepted on provisioned readers. A reader with an
+   * {@code instanceType} is a provisioned instance, e.g. a fixed-size reader for steady analytical load next to serverless ones.
+   */
   private static IClusterInstance reader(RdsReader r) {
+    if (r.instanceType() != null) {
+      return ClusterInstance.provisioned(r.name(),
+        ProvisionedClusterInstanceProps.builder().instanceType(new InstanceType(r.instanceType())).promotionTier(r.promotionTier())
+          .allowMajorVersionUpgrade(r.allowMajorVersionUpgrade()).autoMinorVersionUpgrade(r.autoMinorVersionUpgrade())
+          .publiclyAccessible(r.publiclyAccessible()).enablePerformanceInsights(r.performanceInsights().enabled())
+          .performanceInsightRetention(PerformanceInsightRetention.valueOf(r.performanceInsights().retention().toUpperCase())).build());
+    }
+
+    if (r.promotionTier() != null && r.promotionTier() > 1) {
+      var m = String.format("error creating reader %s! serverless v2 readers take promotion tier 0 or 1, not %s.", r.name(),
+        r.promotionTier());
+      throw new RuntimeException(m);
+    }
+
+    var scaleWithWriter = r.scaleWithWriter() || r.promotionTier() != null;
     return ClusterInstance.serverlessV2(r.name(),
       ServerlessV2ClusterInstanceProps.builder().allowMajorVersionUpgrade(r.allowMajorVersionUpgrade())
-        .autoMinorVersionUpgrade(r.autoMinorVersionUpgrade()).publiclyAccessible(r.publiclyAccessible())
-        .scaleWithWriter(r.scaleWithWriter()).enablePerformanceInsights(r.performanceInsights().enabled())
+        .autoMinorVersionUpgrade(r.autoMinorVersionUpgrade()).publiclyAccessible(r.publiclyAccessible()).scaleWithWriter(scaleWithWriter)
+        .enablePerformanceInsights(r.performanceInsights().enabled())
         .performanceInsightRetention(PerformanceInsightRetention.valueOf(r.performanceInsights().retention().toUpperCase())).build());
   }
+
+  /**
+   * {@code standard} ({@code aurora}) bills every I/O request and suits light or unpredictable I/O; {@code io-optimized}
+   * ({@code aurora-iopt1}) costs more per ACU and GB but has no I/O charges and lower I/O latency, and is cheaper once I/O is more than
+   * about a quarter of the cluster's bill.
+   */
+  private static DBClusterStorageType storageType(String storageType) {
+    var normalized = Optional.ofNullable(storageType).orElse("aurora").toLowerCase().replace('-', '_');
+    return switch (normalized) {
+      case "aurora", "standard" -> DBClusterStorageType.AURORA;
+      case "aurora_iopt1", "iopt1", "io_optimized" -> DBClusterStorageType.AURORA_IOPT1;
+      default -> {
+        var m = String.format("error resolving aurora storage type! %s is not one of standard, io-optimized.", storageType);
+        throw new RuntimeException(m);
+      }
+    };
+  }
+
+  /**
+   * Application Auto Scaling of the number of Aurora replicas, tracking the average reader CPU or connection count. Replicas it adds are
+   * in addition to the configured readers.
+   */
+  private void readerScaling(Rds conf, RdsReaderScaling scaling) {
+    var metric = switch (Optional.ofNullable(scaling.metric()).orElse("cpu").toLowerCase()) {
+      case "cpu" -> PredefinedMetric.RDS_READER_AVERAGE_CPU_UTILIZATION;
+      case "connections" -> PredefinedMetric.RDS_READER_AVERAGE_DATABASE_CONNECTIONS;
+      default -> {
+        var m = String.format("error creating reader scaling for %s! %s is not one of cpu, connections.", conf.name(), scaling.metric());
+        throw new RuntimeException(m);
+      }
+    };
+
+    var target = ScalableTarget.Builder.create(this, id("rds.readers", conf.name())).serviceNamespace(ServiceNamespace.RDS)
+      .resourceId(String.format("cluster:%s", this.cluster().getClusterIdentifier())).scalableDimension("rds:cluster:ReadReplicaCount")
+      .minCapacity(scaling.minReaders()).maxCapacity(scaling.maxReaders()).build();
+
+    var policy = BasicTargetTrackingScalingPolicyProps.builder().predefinedMetric(metric).targetValue(scaling.target());
+    Optional.ofNullable(scaling.scaleInCooldown()).ifPresent(cooldown -> policy.scaleInCooldown(Duration.seconds(cooldown)));
+    Optional.ofNullable(scaling.scaleOutCooldown()).ifPresent(cooldown -> policy.scaleOutCooldown(Duration.seconds(cooldown)));
+
+    target.scaleToTrackMetric(id("rds.readers.tracking", conf.name()), policy.build());
+    target.getNode().addDependency(this.cluster());
+  }
 }
@@ -0,0 +1,80 @@
+package io.stxkxs.execute.aws.rds;
+
+import static io.stxkxs.execute.serialization.Format.exported;
+import static io.stxkxs.execute.serialization.Format.id;
+
+import io.stxkxs.execute.tags.Tagging;
+import io.stxkxs.model._main.Common;
+import io.stxkxs.model.aws.rds.RdsProxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.CfnOutput;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.ec2.ISecurityGroup;
+import software.amazon.awscdk.services.ec2.Vpc;
+import software.amazon.awscdk.services.rds.CfnDBProxyEndpoint;
+import software.amazon.awscdk.services.rds.DatabaseCluster;
+import software.amazon.awscdk.services.rds.DatabaseProxy;
+import software.amazon.awscdk.services.rds.ProxyTarget;
+import software.amazon.awscdk.services.rds.SessionPinningFilter;
+import software.amazon.awscdk.services.secretsmanager.ISecret;
+import software.constructs.Construct;
+
+/**
+ * RDS Proxy in front of an Aurora cluster.
+ *
+ * <p>
+ * Short-lived clients such as Lambda open a connection per invocation and exhaust the database's connections during bursts. The proxy
+ * keeps a warm pool to the cluster and multiplexes client connections onto it, sized by {@code maxConnectionsPercent} and
+ * {@code maxIdleConnectionsPercent} of the database's {@code max_connections}; a client waits up to {@code borrowTimeout} seconds for a
+ * pooled connection. {@code sessionPinningFilters} (e.g. {@code EXCLUDE_VARIABLE_SETS}) keep statements that would otherwise pin a client
+ * to one connection multiplexable.
+ *
+ * <p>
+ * The default endpoint targets the writer. With {@code readOnlyEndpoint} a second endpoint routes to the readers. Both endpoints are
+ * exported as stack outputs. The proxy carries the same {@code tags} as the cluster it fronts.
+ */
+@Slf4j
+@Getter
+public class RdsProxyConstruct extends Construct {
+  private final DatabaseProxy proxy;
+  private final CfnDBProxyEndpoint readOnly;
+
+  public RdsProxyConstruct(Construct scope, Common common, RdsProxy conf, DatabaseCluster cluster, ISecret secret, Vpc vpc,
+    List<ISecurityGroup> securityGroups, Map<String, String> tags) {
+    super(scope, id("rds.proxy", conf.name()));
+
+    log.debug("{} [common: {} conf: {}]", "RdsProxyConstruct", common, conf);
+
+    var proxy = DatabaseProxy.Builder.create(this, conf.name()).dbProxyName(conf.name()).proxyTarget(ProxyTarget.fromCluster(cluster))
+      .secrets(List.of(secret)).vpc(vpc).securityGroups(securityGroups).requireTls(true).iamAuth(conf.iamAuth())
+      .debugLogging(conf.debugLogging()).maxConnectionsPercent(conf.maxConnectionsPercent())
+      .maxIdleConnectionsPercent(conf.maxIdleConnectionsPercent())
+      .sessionPinningFilters(
+        Optional.ofNullable(conf.sessionPinningFilters()).orElse(List.of()).stream().map(SessionPinningFilter::of).toList());
+
+    Optional.ofNullable(conf.borrowTimeout()).ifPresent(timeout -> proxy.borrowTimeout(Duration.seconds(timeout)));
+    Optional.ofNullable(conf.idleClientTimeout()).ifPresent(timeout -> proxy.idleClientTimeout(Duration.seconds(timeout)));
+
+    this.proxy = proxy.build();
+    cluster.getConnections().allowDefaultPortFrom(this.proxy());
+
+    this.readOnly = conf.readOnlyEndpoint() ? CfnDBProxyEndpoint.Builder.create(this, id("rds.proxy.read", conf.name()))
+      .dbProxyName(this.proxy().getDbProxyName()).dbProxyEndpointName(String.format("%s-read-only", conf.name())).targetRole("READ_ONLY")
+      .vpcSubnetIds(vpc.selectSubnets().getSubnetIds())
+      .vpcSecurityGroupIds(this.proxy().getConnections().getSecurityGroups().stream().map(ISecurityGroup::getSecurityGroupId).toList())
+      .build() : null;
+
+    CfnOutput.Builder.create(this, id(common.id(), conf.name(), "endpoint")).exportName(exported(scope, conf.name() + "proxyendpoint"))
+      .value(this.proxy().getEndpoint()).description(String.format("%s rds proxy writer endpoint", conf.name())).build();
+
+    Optional.ofNullable(this.readOnly()).ifPresent(endpoint -> CfnOutput.Builder.create(this, id(common.id(), conf.name(), "read.endpoint"))
+      .exportName(exported(scope, conf.name() + "proxyreadendpoint")).value(endpoint.getAttrEndpoint())
+      .description(String.format("%s rds proxy reader endpoint", conf.name())).build());
+
+    Tagging.add(this, tags);
+  }
+}
@@ -3,6 +3,7 @@ package io.stxkxs.execute.aws.s3;
 import static io.stxkxs.execute.serialization.Format.id;
 
 import io.stxkxs.execute.aws.kms.KmsConstruct;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.kms.Kms;
@@ -11,7 +12,6 @@ import java.util.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.s3.Bucket;
 import software.amazon.awscdk.services.s3.BucketEncryption;
 import software.amazon.awscdk.services.s3.LifecycleRule;
@@ -35,12 +35,12 @@ public class BucketConstruct extends Construct {
         .toList());
 
     Optional.ofNullable(conf.kms()).filter(Kms::enabled)
-      .ifPresent(kms -> bucket.encryption(BucketEncryption.KMS).encryptionKey(new KmsConstruct(this, common, conf.kms()).key()));
+      .ifPresent(kms -> bucket.encryption(BucketEncryption.KMS).encryptionKey(KmsConstruct.shared(this, common, conf.kms())));
 
     this.bucket = bucket.build();
 
     conf.bucketPolicies().forEach(p -> this.bucket().addToResourcePolicy(BucketPolicy.policyStatement(this, p)));
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this.bucket).add(key, value));
+    Tagging.add(this.bucket, Maps.from(common.tags(), conf.tags()));
   }
 }
@@ -1,13 +1,11 @@
 package io.stxkxs.execute.aws.s3;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.stxkxs.execute.serialization.Mapper;
-import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.serialization.ConfigLoader;
 import io.stxkxs.model.aws.iam.Principal;
 import io.stxkxs.model.aws.s3.BucketPolicyConf;
 import io.stxkxs.model.aws.s3.BucketPolicyStatementConf;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.services.iam.Effect;
 import software.amazon.awscdk.services.iam.PolicyStatement;
@@ -26,9 +24,7 @@ public class BucketPolicy {
       .conditions(s.conditions()).build();
   }
 
-  @SneakyThrows
   public static BucketPolicyStatementConf parse(Construct scope, BucketPolicyConf conf) {
-    var parsed = Template.parse(scope, conf.policy(), conf.mappings());
-    return Mapper.get().readValue(parsed, new TypeReference<>() {});
+    return ConfigLoader.load(scope, conf.policy(), new TypeReference<>() {}, conf.mappings());
   }
 }
@@ -2,6 +2,7 @@ package io.stxkxs.execute.aws.secretsmanager;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.secretsmanager.SecretCredentials;
@@ -9,7 +10,6 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.RemovalPolicy;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.secretsmanager.Secret;
 import software.amazon.awscdk.services.secretsmanager.SecretStringGenerator;
 import software.constructs.Construct;
@@ -153,6 +153,6 @@ public class SecretConstruct extends Construct {
           .excludeCharacters(ignore).build())
       .removalPolicy(RemovalPolicy.valueOf(conf.removalPolicy().toUpperCase())).build();
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(secret).add(key, value));
+    Tagging.add(secret, Maps.from(common.tags(), conf.tags()));
   }
 }
@@ -5,6 +5,7 @@ import static io.stxkxs.execute.serialization.Format.id;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.stxkxs.execute.serialization.Mapper;
 import io.stxkxs.execute.serialization.Template;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.iam.PolicyStatementConf;
@@ -14,7 +15,6 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.Duration;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.events.EventPattern;
 import software.amazon.awscdk.services.events.Rule;
 import software.amazon.awscdk.services.events.targets.SqsQueue;
@@ -57,7 +57,7 @@ public class SqsConstruct extends Construct {
         .targets(List.of(this.sqs())).build())
       .toList();
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this).add(key, value));
+    Tagging.add(this, Maps.from(common.tags(), conf.tags()));
   }
 
   @SneakyThrows
@@ -2,12 +2,12 @@ package io.stxkxs.execute.aws.vpc;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.vpc.securitygroup.SecurityGroup;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ec2.Peer;
 import software.amazon.awscdk.services.ec2.Port;
 import software.amazon.awscdk.services.ec2.Vpc;
@@ -33,6 +33,6 @@ public class SecurityGroupConstruct extends Construct {
     conf.egressRules()
       .forEach(rule -> this.securityGroup().addEgressRule(Peer.ipv4(rule.ip()), Port.tcpRange(rule.startPort(), rule.endPort())));
 
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this.securityGroup()).add(key, value));
+    Tagging.add(this.securityGroup(), Maps.from(common.tags(), conf.tags()));
   }
 }
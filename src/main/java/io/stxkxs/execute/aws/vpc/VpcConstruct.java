@@ -2,6 +2,7 @@ package io.stxkxs.execute.aws.vpc;
 
 import static io.stxkxs.execute.serialization.Format.id;
 
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model.aws.vpc.NetworkConf;
@@ -10,7 +11,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ec2.IpAddresses;
 import software.amazon.awscdk.services.ec2.SecurityGroup;
 import software.amazon.awscdk.services.ec2.SubnetConfiguration;
@@ -169,17 +169,17 @@ public class VpcConstruct extends Construct {
   }
 
   private void tagging(Common common, NetworkConf conf) {
-    Maps.from(common.tags(), conf.tags()).forEach((key, value) -> Tags.of(this.vpc()).add(key, value));
+    Tagging.add(this.vpc(), Maps.from(common.tags(), conf.tags()));
 
     var tagsForSubnetType = conf.subnets().stream().collect(Collectors.toMap(Subnet::subnetType, Subnet::tags));
 
     this.vpc().getPublicSubnets()
-      .forEach(subnet -> tagsForSubnetType.get(SubnetType.PUBLIC).forEach((key, value) -> Tags.of(subnet).add(key, value)));
+      .forEach(subnet -> Tagging.add(subnet, tagsForSubnetType.get(SubnetType.PUBLIC)));
 
     this.vpc().getPrivateSubnets()
-      .forEach(subnet -> tagsForSubnetType.get(SubnetType.PRIVATE_WITH_EGRESS).forEach((key, value) -> Tags.of(subnet).add(key, value)));
+      .forEach(subnet -> Tagging.add(subnet, tagsForSubnetType.get(SubnetType.PRIVATE_WITH_EGRESS)));
 
     this.vpc().getIsolatedSubnets()
-      .forEach(subnet -> tagsForSubnetType.get(SubnetType.PRIVATE_ISOLATED).forEach((key, value) -> Tags.of(subnet).add(key, value)));
+      .forEach(subnet -> Tagging.add(subnet, tagsForSubnetType.get(SubnetType.PRIVATE_ISOLATED)));
   }
 }
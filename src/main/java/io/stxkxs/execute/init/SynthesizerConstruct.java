@@ -3,13 +3,13 @@ package io.stxkxs.execute.init;
 import static io.stxkxs.execute.serialization.Format.describe;
 
 import io.stxkxs.execute.aws.kms.KmsConstruct;
+import io.stxkxs.execute.tags.Tagging;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.SynthesizerResources;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awscdk.NestedStack;
 import software.amazon.awscdk.NestedStackProps;
-import software.amazon.awscdk.Tags;
 import software.amazon.awscdk.services.ssm.ParameterDataType;
 import software.amazon.awscdk.services.ssm.StringParameter;
 import software.constructs.Construct;
@@ -33,7 +33,7 @@ public class SynthesizerConstruct extends NestedStack {
     this.version = StringParameter.Builder.create(this, "ssm").parameterName(String.format("/cdk/%s-%s/version", parent, common.id()))
       .stringValue("21").description("cdk version").dataType(ParameterDataType.TEXT).build();
 
-    common.tags().forEach((k, v) -> Tags.of(this.version()).add(k, v));
+    Tagging.add(this.version(), common.tags());
 
     this.roles =
       new SystemRolesConstruct(this, common, conf, NestedStackProps.builder().description(describe(common, "roles & policies")).build());
@@ -0,0 +1,423 @@
+package io.stxkxs.execute.profile;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import software.constructs.Construct;
+
+/**
+ * Opt-in synth profiler recording, per construct, time spent rendering templates and binding configuration, the context lookups and tags
+ * it caused, and sampled wall, self and JSII time.
+ *
+ * <p>
+ * Enabled by setting the {@code synth:profile} context value (or the {@code cdk.common.profile} system property) to {@code true}. The
+ * first stack whose template context is read decides, see {@link #attach}; when disabled every call is a no-op that makes no JSII call.
+ *
+ * <p>
+ * Constructs are not instrumented individually. The constructs under construction are read off the Java call stack: every {@code <init>}
+ * of a {@link Construct} subclass is one level, with {@code super(...)} and {@code this(...)} calls folded into the construct being built.
+ * A level is labelled with the node id of its instance once that instance is passed to {@code TemplateContext.of} or {@code Tagging.add},
+ * which every construct rendering configuration or tagging resources does, see {@link #register}. Two {@code BucketConstruct}s in different
+ * stacks are therefore reported separately.
+ *
+ * <p>
+ * Template, bind, context and tag counts are measured where they happen and attributed to the constructs they are raised under. Time
+ * spent in a construct is not measured at entry and exit: a sampler thread reads the stack of the synth thread every
+ * {@code cdk.common.profile.interval} milliseconds (default {@value #DEFAULT_INTERVAL}), and the report labels those figures as sampled.
+ * JSII calls made by builders cannot be counted without bytecode weaving, so the samples that land inside the JSII runtime are reported as
+ * sampled JSII time instead.
+ *
+ * <p>
+ * When the JVM exits after synth, the report is written to the CDK output directory ({@code CDK_OUTDIR}, default {@code cdk.out}):
+ * <ul>
+ * <li>{@code synth-profile.json} - one entry per construct plus totals per construct type</li>
+ * <li>{@code synth-profile.folded} - folded stacks of sampled self time in microseconds, for {@code flamegraph.pl} or speedscope</li>
+ * </ul>
+ */
+@Slf4j
+public final class Profiler {
+  public static final String FLAG = "synth:profile";
+  public static final String PROPERTY = "cdk.common.profile";
+  public static final String INTERVAL_PROPERTY = "cdk.common.profile.interval";
+  public static final int DEFAULT_INTERVAL = 1;
+
+  private static final String JSII = "software.amazon.jsii.";
+
+  private static final Frame none = new Frame("", "", null, null);
+  private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+  private static final ThreadLocal<Frame> handed = new ThreadLocal<>();
+  private static final Map<String, Frame> frames = new ConcurrentHashMap<>();
+  private static final Map<String, Optional<Class<?>>> classes = new ConcurrentHashMap<>();
+  private static final Map<Thread, List<Slot>> building = new ConcurrentHashMap<>();
+  private static final AtomicBoolean started = new AtomicBoolean();
+  private static final long interval = Math.max(1, Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL));
+  private static volatile Boolean enabled = Boolean.getBoolean(PROPERTY) ? Boolean.TRUE : null;
+
+  private Profiler() {}
+
+  public static boolean enabled() {
+    return Boolean.TRUE.equals(enabled);
+  }
+
+  /**
+   * Reads the {@code synth:profile} flag from {@code scope} on first use and, when enabled, samples the calling thread from then on.
+   * Called once per stack by {@code TemplateContext}, so every synth thread that renders templates is covered.
+   */
+  public static void attach(Construct scope) {
+    if (enabled == null) {
+      enabled = Optional.ofNullable(scope.getNode().tryGetContext(FLAG)).map(Object::toString).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    if (!enabled() || handed.get() != null || building.putIfAbsent(Thread.currentThread(), List.of()) != null) {
+      return;
+    }
+
+    if (started.compareAndSet(false, true)) {
+      var sampler = Executors.newSingleThreadScheduledExecutor(task -> {
+        var thread = new Thread(task, "cdk-common-profiler");
+        thread.setDaemon(true);
+        return thread;
+      });
+      sampler.scheduleAtFixedRate(Profiler::sample, interval, interval, TimeUnit.MILLISECONDS);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        sampler.shutdownNow();
+        write();
+      }, "cdk-common-profiler-report"));
+    }
+  }
+
+  /**
+   * Labels the level of the call stack that is building {@code construct} with its node id and path. Constructs that are not being built
+   * on this thread, e.g. a child resource passed to {@code Tagging.add} after it was created, are ignored.
+   */
+  public static void register(Construct construct) {
+    if (!enabled() || handed.get() != null) {
+      return;
+    }
+
+    var thread = Thread.currentThread();
+    var levels = levels(walked());
+    var slots = matched(building.getOrDefault(thread, List.of()), levels);
+
+    var position = -1;
+    for (var i = levels.size() - 1; i >= 0; i--) {
+      if (levels.get(i).type() == construct.getClass()) {
+        position = i;
+        break;
+      }
+    }
+
+    if (position < 0 || (position < slots.size() && slots.get(position).construct() == construct)) {
+      return;
+    }
+
+    var registered = new ArrayList<Slot>(position + 1);
+    for (var i = 0; i < position; i++) {
+      registered.add(i < slots.size() ? slots.get(i) : new Slot(levels.get(i), null, null, null));
+    }
+    registered.add(new Slot(levels.get(position), construct, construct.getNode().getId(), construct.getNode().getPath()));
+
+    building.put(thread, List.copyOf(registered));
+  }
+
+  /**
+   * The frame for the constructs being built on this thread, or a no-op frame.
+   */
+  public static Frame current() {
+    if (!enabled()) {
+      return none;
+    }
+
+    var frame = handed.get();
+    if (frame != null) {
+      return frame;
+    }
+
+    return frame(levels(walked()), building.getOrDefault(Thread.currentThread(), List.of()));
+  }
+
+  /**
+   * Runs {@code task} with {@code frame} as the current frame, so work handed to another thread is attributed to the construct that
+   * submitted it.
+   */
+  public static <T> T within(Frame frame, Supplier<T> task) {
+    if (frame == none) {
+      return task.get();
+    }
+
+    var previous = handed.get();
+    handed.set(frame);
+    try {
+      return task.get();
+    } finally {
+      handed.set(previous);
+    }
+  }
+
+  public static void template(long nanos) {
+    if (!enabled()) {
+      return;
+    }
+
+    var frame = current();
+    frame.template.add(nanos);
+    frame.templates.increment();
+  }
+
+  public static void bind(long nanos) {
+    if (!enabled()) {
+      return;
+    }
+
+    var frame = current();
+    frame.bind.add(nanos);
+    frame.binds.increment();
+  }
+
+  /**
+   * Records {@code lookups} context reads made by the caller, counted where they happen.
+   */
+  public static void context(int lookups) {
+    if (enabled()) {
+      current().context.add(lookups);
+    }
+  }
+
+  public static void tags(int tags) {
+    if (enabled()) {
+      current().tags.add(tags);
+    }
+  }
+
+  public static final class Frame {
+    private final String stack;
+    private final String type;
+    private final String id;
+    private final String path;
+    private final LongAdder template = new LongAdder();
+    private final LongAdder templates = new LongAdder();
+    private final LongAdder bind = new LongAdder();
+    private final LongAdder binds = new LongAdder();
+    private final LongAdder context = new LongAdder();
+    private final LongAdder tags = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder jsii = new LongAdder();
+
+    private Frame(String stack, String type, String id, String path) {
+      this.stack = stack;
+      this.type = type;
+      this.id = id;
+      this.path = path;
+    }
+  }
+
+  /**
+   * A construct under construction: its class and the line that is building it, which tells apart siblings of the same class built from
+   * different lines. Siblings built from the same line, e.g. in a loop, take over the label when they register.
+   */
+  private record Level(Class<?> type, String site) {}
+
+  /**
+   * A level of the call stack labelled with the construct instance being built there, or unlabelled until it is registered.
+   */
+  private record Slot(Level level, Construct construct, String id, String path) {}
+
+  /**
+   * One frame of a call stack, innermost first.
+   */
+  private record Call(Class<?> type, String method, String site) {}
+
+  private static List<Call> walked() {
+    return walker.walk(s -> s.map(f -> new Call(f.getDeclaringClass(), f.getMethodName(),
+      f.getClassName() + ":" + f.getLineNumber())).toList());
+  }
+
+  /**
+   * The constructs being built in {@code calls}, outermost first, with {@code super(...)} and {@code this(...)} folded into the construct
+   * being built. A level's site is where its caller invoked the constructor.
+   */
+  private static List<Level> levels(List<Call> calls) {
+    var levels = new ArrayList<Level>();
+    for (var i = calls.size() - 1; i >= 0; i--) {
+      var call = calls.get(i);
+      if (call.type() == null || !"<init>".equals(call.method()) || !Construct.class.isAssignableFrom(call.type())) {
+        continue;
+      }
+
+      if (!levels.isEmpty() && call.type().isAssignableFrom(levels.getLast().type())) {
+        continue;
+      }
+
+      levels.add(new Level(call.type(), i + 1 < calls.size() ? calls.get(i + 1).site() : ""));
+    }
+
+    return levels;
+  }
+
+  /**
+   * The leading {@code slots} still being built, i.e. whose level is still on the call stack at the same position.
+   */
+  private static List<Slot> matched(List<Slot> slots, List<Level> levels) {
+    var count = 0;
+    while (count < slots.size() && count < levels.size() && slots.get(count).level().equals(levels.get(count))) {
+      count++;
+    }
+
+    return slots.subList(0, count);
+  }
+
+  private static Frame frame(List<Level> levels, List<Slot> slots) {
+    if (levels.isEmpty()) {
+      return none;
+    }
+
+    var labelled = matched(slots, levels);
+    var names = new ArrayList<String>();
+    for (var i = 0; i < levels.size(); i++) {
+      var name = name(levels.get(i).type());
+      names.add(i < labelled.size() && labelled.get(i).id() != null ? name + ":" + labelled.get(i).id() : name);
+    }
+
+    var leaf = levels.size() == labelled.size() ? labelled.getLast() : null;
+    var type = name(levels.getLast().type());
+    return frames.computeIfAbsent(String.join(";", names).replace(' ', '_'),
+      stack -> new Frame(stack, type, leaf != null ? leaf.id() : null, leaf != null ? leaf.path() : null));
+  }
+
+  private static String name(Class<?> type) {
+    return type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+  }
+
+  private static void sample() {
+    building.forEach((thread, slots) -> {
+      if (!thread.isAlive()) {
+        building.remove(thread);
+        return;
+      }
+
+      var trace = thread.getStackTrace();
+      var loader = Optional.ofNullable(thread.getContextClassLoader()).orElse(Profiler.class.getClassLoader());
+      var calls = new ArrayList<Call>(trace.length);
+      for (var i = 0; i < trace.length; i++) {
+        var element = trace[i];
+        var type = "<init>".equals(element.getMethodName())
+          ? classes.computeIfAbsent(element.getClassName(), name -> load(name, loader)).orElse(null)
+          : null;
+        calls.add(new Call(type, element.getMethodName(), element.getClassName() + ":" + element.getLineNumber()));
+      }
+
+      var frame = frame(levels(calls), slots);
+      if (frame != none) {
+        frame.samples.increment();
+        if (trace.length > 0 && trace[0].getClassName().startsWith(JSII)) {
+          frame.jsii.increment();
+        }
+      }
+    });
+  }
+
+  private static Optional<Class<?>> load(String name, ClassLoader loader) {
+    try {
+      return Optional.of(Class.forName(name, false, loader));
+    } catch (ClassNotFoundException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
+
+  private static void write() {
+    var recorded = List.copyOf(frames.values());
+    if (recorded.isEmpty()) {
+      return;
+    }
+
+    var directory = Path.of(Optional.ofNullable(System.getenv("CDK_OUTDIR")).orElse("cdk.out"));
+
+    try {
+      Files.createDirectories(directory);
+      Files.writeString(directory.resolve("synth-profile.folded"), folded(recorded), StandardCharsets.UTF_8);
+      JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build().writeValue(directory.resolve("synth-profile.json").toFile(),
+        report(recorded));
+
+      log.info("synth profile written to {}", directory.toAbsolutePath());
+    } catch (IOException e) {
+      log.warn("unable to write synth profile [reason: {}]", e.getMessage());
+    }
+  }
+
+  private static String folded(List<Frame> recorded) {
+    var lines = new StringBuilder();
+    recorded.stream().filter(f -> f.samples.sum() > 0).sorted(Comparator.comparing((Frame f) -> f.stack))
+      .forEach(f -> lines.append(f.stack).append(' ').append(TimeUnit.NANOSECONDS.toMicros(sampled(f.samples))).append('\n'));
+    return lines.toString();
+  }
+
+  private static Map<String, Object> report(List<Frame> recorded) {
+    var constructs = recorded.stream().sorted(Comparator.comparingLong((Frame f) -> wall(f, recorded)).reversed())
+      .map(f -> entry(f, recorded)).toList();
+
+    var types = new LinkedHashMap<String, Map<String, Object>>();
+    recorded.stream().sorted(Comparator.comparing((Frame f) -> f.type)).forEach(f -> {
+      var totals = types.computeIfAbsent(f.type, t -> new LinkedHashMap<>(Map.of("constructs", 0L, "selfMsSampled", 0.0,
+        "jsiiMsSampled", 0.0, "templateMs", 0.0, "bindMs", 0.0, "contextLookups", 0L, "tags", 0L)));
+      totals.merge("constructs", 1L, (a, b) -> (Long) a + (Long) b);
+      totals.merge("selfMsSampled", millis(sampled(f.samples)), (a, b) -> (Double) a + (Double) b);
+      totals.merge("jsiiMsSampled", millis(sampled(f.jsii)), (a, b) -> (Double) a + (Double) b);
+      totals.merge("templateMs", millis(f.template.sum()), (a, b) -> (Double) a + (Double) b);
+      totals.merge("bindMs", millis(f.bind.sum()), (a, b) -> (Double) a + (Double) b);
+      totals.merge("contextLookups", f.context.sum(), (a, b) -> (Long) a + (Long) b);
+      totals.merge("tags", f.tags.sum(), (a, b) -> (Long) a + (Long) b);
+    });
+
+    return Map.of("sampleIntervalMs", interval, "constructs", constructs, "types", types);
+  }
+
+  private static Map<String, Object> entry(Frame f, List<Frame> recorded) {
+    var entry = new LinkedHashMap<String, Object>();
+    entry.put("type", f.type);
+    entry.put("id", f.id);
+    entry.put("path", f.path);
+    entry.put("stack", f.stack);
+    entry.put("wallMsSampled", millis(wall(f, recorded)));
+    entry.put("selfMsSampled", millis(sampled(f.samples)));
+    entry.put("jsiiMsSampled", millis(sampled(f.jsii)));
+    entry.put("templateMs", millis(f.template.sum()));
+    entry.put("templates", f.templates.sum());
+    entry.put("bindMs", millis(f.bind.sum()));
+    entry.put("binds", f.binds.sum());
+    entry.put("contextLookups", f.context.sum());
+    entry.put("tags", f.tags.sum());
+    return entry;
+  }
+
+  private static long sampled(LongAdder samples) {
+    return TimeUnit.MILLISECONDS.toNanos(samples.sum() * interval);
+  }
+
+  /**
+   * Sampled time spent in this construct and every construct nested under it.
+   */
+  private static long wall(Frame f, List<Frame> recorded) {
+    return recorded.stream().filter(r -> r.stack.equals(f.stack) || r.stack.startsWith(f.stack + ";")).mapToLong(r -> sampled(r.samples))
+      .sum();
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,93 @@
+package io.stxkxs.execute.registry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Stack;
+import software.constructs.Construct;
+
+/**
+ * Per-stack registry of shared constructs, keyed by the normalized configuration record they were built from.
+ *
+ * <p>
+ * Several constructs build their own KMS key, role or lookup inline even when the configuration is identical, e.g. a bucket, a log group
+ * and a table all encrypted with the same {@code Kms} record. Each copy is another resource in the template and another set of JSII calls
+ * at synth, and for named resources such as key aliases and role names the copies cannot even be deployed side by side. {@link #shared}
+ * returns the construct registered under the same kind and key in the same {@link Stack}, and only builds a new one on a miss. Entries are
+ * scoped to the stack so a shared resource never introduces a cross-stack reference.
+ *
+ * <p>
+ * Sharing is on by default. Set the {@code synth:registry} context value to {@code false} to build every construct as before, for example
+ * when duplicates are intentional.
+ *
+ * <pre>{@code
+ * var key = Registry.shared(this, Kms.class, conf, () -> new KmsConstruct(this, common, conf).key());
+ * var role = Registry.shared(this, "role:lookup", arn, () -> Role.fromRoleArn(this, "lookup", arn));
+ * }</pre>
+ */
+@Slf4j
+public final class Registry {
+  public static final String FLAG = "synth:registry";
+
+  private static final Map<Construct, Registry> registries = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private final boolean enabled;
+  private final Map<List<Object>, Object> entries = new HashMap<>();
+
+  private Registry(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the entry registered under {@code kind} and {@code key} in the stack enclosing {@code scope}, building it with {@code create}
+   * on first use. {@code key} must have value semantics, typically a record with its case-insensitive fields normalized.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T shared(Construct scope, Object kind, Object key, Supplier<T> create) {
+    var registry = of(scope);
+    if (!registry.enabled) {
+      return create.get();
+    }
+
+    var id = List.of(kind, key);
+    synchronized (registry.entries) {
+      var existing = registry.entries.get(id);
+      if (existing != null) {
+        hits.incrementAndGet();
+        log.debug("shared construct registry hit [kind: {} key: {}]", kind, key);
+        return (T) existing;
+      }
+    }
+
+    var created = create.get();
+    misses.incrementAndGet();
+
+    synchronized (registry.entries) {
+      return (T) registry.entries.computeIfAbsent(id, k -> created);
+    }
+  }
+
+  private static Registry of(Construct scope) {
+    var stack = Stack.of(scope);
+    return registries.computeIfAbsent(stack, s -> new Registry(Optional.ofNullable(s.getNode().tryGetContext(FLAG)).map(Object::toString)
+      .map(Boolean::parseBoolean).orElse(true)));
+  }
+
+  public static void clear() {
+    registries.clear();
+  }
+
+  public static Stats stats() {
+    return new Stats(hits.get(), misses.get(), registries.size());
+  }
+
+  public record Stats(long hits, long misses, int stacks) {}
+}
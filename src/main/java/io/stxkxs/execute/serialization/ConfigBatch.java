@@ -0,0 +1,133 @@
+package io.stxkxs.execute.serialization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.stxkxs.execute.profile.Profiler;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.constructs.Construct;
+
+/**
+ * Renders and binds several templates in parallel ahead of construct creation.
+ *
+ * <p>
+ * Rendering a template and binding it is pure CPU work once the {@link TemplateContext} has been captured, but creating constructs is a
+ * JSII call and has to stay on the thread that owns the construct tree. A batch captures the context on the calling thread, submits each
+ * load to a bounded executor and hands back a {@link Supplier} that blocks until the bound value is ready, so a stack can start every load
+ * up front and consume the results in its usual order while the construct tree is built.
+ *
+ * <p>
+ * Parallelism defaults to the number of available processors and can be set with the {@code synth:parallelism} context value; a value of
+ * {@code 1} runs every load inline on the calling thread. Loads go through {@link ConfigLoader}, so a later load of the same template with
+ * the same inputs on the main thread is a memoized hit.
+ *
+ * <pre>{@code
+ * try (var batch = ConfigBatch.of(this)) {
+ *   var sqs = batch.load(conf.sqs(), Sqs.class);
+ *   var nodeGroups = batch.load(conf.nodeGroups(), new TypeReference<List<NodeGroup>>() {});
+ *
+ *   this.cluster = cluster(common, conf, vpc);
+ *   this.queue = new SqsConstruct(this, common, sqs.get()).sqs().getQueue();
+ * }
+ * }</pre>
+ *
+ * @see ConfigLoader for memoized loading
+ * @see TemplateContext for the captured context
+ */
+@Slf4j
+public final class ConfigBatch implements AutoCloseable {
+  public static final String PARALLELISM = "synth:parallelism";
+
+  @Getter
+  private final TemplateContext context;
+  private final ExecutorService executor;
+
+  private ConfigBatch(TemplateContext context, int parallelism) {
+    this.context = context;
+    this.executor = parallelism > 1
+      ? Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().daemon().name("cdk-common-config-", 0).factory())
+      : null;
+
+    log.debug("config batch [parallelism: {}]", parallelism);
+  }
+
+  public static ConfigBatch of(Construct scope) {
+    var parallelism = Optional.ofNullable(scope.getNode().tryGetContext(PARALLELISM)).map(Object::toString).map(Integer::parseInt)
+      .orElseGet(() -> Runtime.getRuntime().availableProcessors());
+
+    return new ConfigBatch(TemplateContext.of(scope), parallelism);
+  }
+
+  public static ConfigBatch of(TemplateContext context, int parallelism) {
+    return new ConfigBatch(context, parallelism);
+  }
+
+  public <T> Supplier<T> load(String file, Class<T> type) {
+    return submit(() -> ConfigLoader.load(context, file, type, Map.of()));
+  }
+
+  public <T> Supplier<T> load(String file, Class<T> type, Map<String, Object> values) {
+    return submit(() -> ConfigLoader.load(context, file, type, values));
+  }
+
+  public <T> Supplier<T> load(String file, TypeReference<T> type) {
+    return submit(() -> ConfigLoader.load(context, file, type, Map.of()));
+  }
+
+  public <T> Supplier<T> load(String file, TypeReference<T> type, Map<String, Object> values) {
+    return submit(() -> ConfigLoader.load(context, file, type, values));
+  }
+
+  /**
+   * Runs arbitrary off-tree work, e.g. rendering with {@link Template#parse(TemplateContext, String)} and binding with another library.
+   * The task must not touch the construct tree.
+   */
+  public <T> Supplier<T> submit(Supplier<T> task) {
+    if (executor == null) {
+      var value = task.get();
+      return () -> value;
+    }
+
+    var frame = Profiler.current();
+    var future = CompletableFuture.supplyAsync(() -> Profiler.within(frame, task), executor);
+    return () -> join(future);
+  }
+
+  /**
+   * Rethrows the failure of the load itself rather than the {@link CompletionException} wrapper, so errors read the same as when the
+   * template is loaded inline.
+   */
+  @SneakyThrows
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw e.getCause() != null ? e.getCause() : e;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.MINUTES)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package io.stxkxs.execute.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import software.constructs.Construct;
+
+/**
+ * Typed configuration loading that renders a template with {@link Template} and binds the result with {@link Mapper}, memoizing the
+ * bound object.
+ *
+ * <p>
+ * Most constructs repeat {@code Mapper.get().readValue(Template.parse(scope, file), X.class)}, and the same template is often rendered
+ * for several constructs in one synth. The loader keys each result on the template identity ({@code {environment}/{version}/{file}}),
+ * the target type and a SHA-256 of the effective variable map, so a repeated load with the same inputs returns the same instance
+ * without rendering or parsing again.
+ *
+ * <p>
+ * Results are memoized per {@link TemplateContext}, so per stack: loads under one stack never see objects bound for another, and a
+ * stack's results are released together with its context once the stack is unreachable. Each stack keeps at most {@link #maximumSize()}
+ * results and evicts the least recently used beyond that. The maximum defaults to {@value #DEFAULT_MAXIMUM_SIZE} and can be changed with
+ * the {@code cdk.common.config.cache.size} system property; {@code 0} disables memoization.
+ *
+ * <p>
+ * Returned objects are shared between callers under the same stack. Configuration records are immutable, but maps, lists and lombok
+ * {@code @Data} classes are not, and the loader does not copy or wrap them: callers must treat everything returned from the loader as
+ * read-only and copy before modifying.
+ *
+ * <pre>{@code
+ * var addons = ConfigLoader.load(scope, conf.addons(), AddonsConf.class);
+ * var nodeGroups = ConfigLoader.load(scope, conf.nodeGroups(), new TypeReference<List<NodeGroup>>() {});
+ * var statements = ConfigLoader.load(scope, conf.policy(), new TypeReference<List<PolicyStatementConf>>() {}, conf.mappings());
+ * }</pre>
+ *
+ * @see Template for template resolution and rendering
+ * @see Mapper for binding
+ */
+@Slf4j
+public final class ConfigLoader {
+  public static final int DEFAULT_MAXIMUM_SIZE = 128;
+  public static final String MAXIMUM_SIZE_PROPERTY = "cdk.common.config.cache.size";
+
+  private static final int maximumSize = Math.max(0, Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+  private static final Map<TemplateContext, Map<Key, Object>> loaded = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong evictions = new AtomicLong();
+
+  private ConfigLoader() {}
+
+  public static <T> T load(Construct scope, String file, Class<T> type) {
+    return load(scope, file, Mapper.get().constructType(type), Map.of());
+  }
+
+  public static <T> T load(Construct scope, String file, Class<T> type, Map<String, Object> values) {
+    return load(scope, file, Mapper.get().constructType(type), values);
+  }
+
+  public static <T> T load(Construct scope, String file, TypeReference<T> type) {
+    return load(scope, file, Mapper.get().constructType(type), Map.of());
+  }
+
+  public static <T> T load(Construct scope, String file, TypeReference<T> type, Map<String, Object> values) {
+    return load(scope, file, Mapper.get().constructType(type), values);
+  }
+
+  /**
+   * Loads against an existing context snapshot. Does not touch the construct tree, so it is safe to call from worker threads.
+   */
+  public static <T> T load(TemplateContext context, String file, Class<T> type, Map<String, Object> values) {
+    return load(context, file, Mapper.get().constructType(type), values);
+  }
+
+  public static <T> T load(TemplateContext context, String file, TypeReference<T> type, Map<String, Object> values) {
+    return load(context, file, Mapper.get().constructType(type), values);
+  }
+
+  private static <T> T load(Construct scope, String file, JavaType type, Map<String, Object> values) {
+    return load(TemplateContext.of(scope), file, type, values);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T load(TemplateContext context, String file, JavaType type, Map<String, Object> values) {
+    var template = context.identity(file);
+    var variables = Template.variables(context, values);
+
+    var hash = maximumSize > 0 ? hash(variables) : null;
+    if (hash == null) {
+      misses.incrementAndGet();
+      return bind(template, variables, type);
+    }
+
+    var key = new Key(template, type.toCanonical(), hash);
+    var memo = loaded.computeIfAbsent(context, c -> memo());
+    synchronized (memo) {
+      var existing = memo.get(key);
+      if (existing != null) {
+        hits.incrementAndGet();
+        log.trace("reusing loaded configuration {} as {}", template, type);
+        return (T) existing;
+      }
+    }
+
+    misses.incrementAndGet();
+    var bound = bind(template, variables, type);
+    synchronized (memo) {
+      var existing = memo.putIfAbsent(key, bound);
+      return (T) (existing != null ? existing : bound);
+    }
+  }
+
+  private static Map<Key, Object> memo() {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+        if (size() > maximumSize) {
+          evictions.incrementAndGet();
+          log.trace("evicting loaded configuration {}", eldest.getKey().template());
+          return true;
+        }
+
+        return false;
+      }
+    };
+  }
+
+  private static <T> T bind(String template, Map<String, Object> variables, JavaType type) {
+    return Template.read(template, variables, type);
+  }
+
+  /**
+   * Stable hash of the variable map: keys are sorted at every level before the map is serialized, so insertion order does not matter.
+   * Returns {@code null} when a value can not be serialized, in which case the load is not memoized.
+   */
+  private static String hash(Map<String, Object> variables) {
+    try {
+      var canonical =
+        Mapper.get().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(new TreeMap<>(variables));
+      return DigestUtils.sha256Hex(canonical);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.debug("unable to hash template variables, skipping memoization [reason: {}]", e.getMessage());
+      return null;
+    }
+  }
+
+  public static void clear() {
+    loaded.clear();
+  }
+
+  public static int maximumSize() {
+    return maximumSize;
+  }
+
+  public static Stats stats() {
+    synchronized (loaded) {
+      var size = loaded.values().stream().mapToInt(memo -> {
+        synchronized (memo) {
+          return memo.size();
+        }
+      }).sum();
+      return new Stats(hits.get(), misses.get(), evictions.get(), size);
+    }
+  }
+
+  public record Stats(long hits, long misses, long evictions, int size) {}
+
+  private record Key(String template, String type, String hash) {}
+}
@@ -1,7 +1,7 @@
 package io.stxkxs.execute.serialization;
 
+import io.stxkxs.execute.profile.Profiler;
 import io.stxkxs.model._main.Common;
-import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import software.constructs.Construct;
 
@@ -98,18 +98,36 @@ public class Format {
   }
 
   public static String exported(Construct scope, String suffix) {
-    var prefix = Optional.of(scope).map(s -> s.getNode().tryGetContext("hosted:synthesizer:name")).map(Object::toString)
-      .orElseGet(() -> scope.getNode().getContext("host:id").toString());;
+    var synthesizer = scope.getNode().tryGetContext("hosted:synthesizer:name");
+    var prefix = synthesizer != null ? synthesizer.toString() : scope.getNode().getContext("host:id").toString();
 
     var hostedId = scope.getNode().getContext("hosted:id");
+    Profiler.context(synthesizer != null ? 2 : 3);
+
     return String.format("%s%s%s", prefix, hostedId, suffix);
   }
 
   public static String named(Construct scope, String suffix) {
-    var prefix = Optional.of(scope).map(s -> s.getNode().tryGetContext("hosted:synthesizer:name")).map(Object::toString)
-      .orElseGet(() -> scope.getNode().getContext("host:id").toString());;
+    var synthesizer = scope.getNode().tryGetContext("hosted:synthesizer:name");
+    var prefix = synthesizer != null ? synthesizer.toString() : scope.getNode().getContext("host:id").toString();
 
     var hostedId = scope.getNode().getContext("hosted:id");
+    Profiler.context(synthesizer != null ? 2 : 3);
+
     return String.format("%s-%s-%s", prefix, hostedId, suffix);
   }
+
+  /**
+   * {@link #exported(Construct, String)} against an existing context snapshot, without touching the construct tree.
+   */
+  public static String exported(TemplateContext context, String suffix) {
+    return String.format("%s%s%s", context.prefix(), context.values().get("hosted:id"), suffix);
+  }
+
+  /**
+   * {@link #named(Construct, String)} against an existing context snapshot, without touching the construct tree.
+   */
+  public static String named(TemplateContext context, String suffix) {
+    return String.format("%s-%s-%s", context.prefix(), context.values().get("hosted:id"), suffix);
+  }
 }
@@ -1,16 +1,19 @@
 package io.stxkxs.execute.serialization;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import io.stxkxs.execute.profile.Profiler;
 import io.stxkxs.model._main.Common;
 import io.stxkxs.model._main.Common.Maps;
 import io.stxkxs.model._main.Environment;
 import io.stxkxs.model._main.Version;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Optional;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import software.constructs.Construct;
@@ -51,6 +54,7 @@ import software.constructs.Construct;
  * <li><b>Host Context</b> - Primary deployment environment variables (host:account, host:region, etc.)</li>
  * <li><b>Hosted Context</b> - Secondary deployment context for nested stacks</li>
  * <li><b>Synthesizer Context</b> - CDK synthesizer and build tool context</li>
+ * <li><b>Snapshot</b> - Values are read once per stack into a {@link TemplateContext} and shared by every parse under it</li>
  * <li><b>Custom Variables</b> - Additional user-provided template variables</li>
  * </ul>
  *
@@ -84,9 +88,9 @@ import software.constructs.Construct;
  * <p>
  * <b>Performance Optimization:</b>
  * <ul>
- * <li><b>Template Caching</b> - Compiled template caching for repeated use</li>
+ * <li><b>Template Caching</b> - Compiled templates are shared process-wide through {@link TemplateCache}</li>
  * <li><b>Lazy Loading</b> - Templates loaded only when needed</li>
- * <li><b>Stream Processing</b> - Efficient I/O with proper resource management</li>
+ * <li><b>Stream Processing</b> - {@code read}/{@code tree} render into a pooled buffer the YAML parser reads from directly</li>
  * <li><b>Memory Management</b> - Proper cleanup of template resources</li>
  * </ul>
  *
@@ -110,12 +114,19 @@ import software.constructs.Construct;
  * Map<String, Object> customVars = Map.of("clusterSize", "large", "enableLogging", true);
  * String config = Template.parse(scope, "eks/cluster-config.json", customVars);
  *
+ * // Render and bind in one step without building an intermediate String
+ * AddonsConf addons = Template.read(scope, "eks/addons.mustache", AddonsConf.class);
+ * JsonNode values = Template.tree(scope, "eks/grafana/values.mustache");
+ *
  * // Typical usage in construct
  * var nodeGroupsConfig = Mapper.get().readValue(Template.parse(this, conf.nodeGroups()), new TypeReference<List<NodeGroup>>() {});
  * }</pre>
  *
  * @author CDK Common Framework
  * @see DefaultMustacheFactory for mustache template processing
+ * @see TemplateCache for compiled template caching
+ * @see TemplateContext for the per-stack context snapshot
+ * @see TemplateIndex for build-time template validation
  * @see Mapper for JSON/YAML processing integration
  * @see Common for context and metadata management
  * @see Environment for environment-specific processing
@@ -124,76 +135,121 @@ import software.constructs.Construct;
  */
 @Slf4j
 public class Template {
-
-  @SneakyThrows
   public static String parse(Construct scope, String file) {
-    var version = Version.of(scope.getNode().getContext("host:version"));
-    var environment = Environment.of(scope.getNode().getContext("host:environment"));
-    return execute(environment, version, file, defaults(scope));
+    return parse(TemplateContext.of(scope), file);
   }
 
-  @SneakyThrows
   public static String parse(Construct scope, String file, Map<String, Object> values) {
-    var version = Version.of(scope.getNode().getContext("host:version"));
-    var environment = Environment.of(scope.getNode().getContext("host:environment"));
-    return execute(environment, version, file, Maps.from(defaults(scope), values));
+    return parse(TemplateContext.of(scope), file, values);
   }
 
-  @SneakyThrows
-  private static String execute(Environment environment, Version version, String file, Map<String, Object> values) {
-    log.debug("parsing template {}/{}/{} with parameters {}", environment, version, file, values);
+  /**
+   * Renders {@code file} against an existing context snapshot, without touching the construct tree.
+   */
+  public static String parse(TemplateContext context, String file) {
+    return render(context.identity(file), context.values());
+  }
 
-    var factory = new DefaultMustacheFactory();
-    var writer = new StringWriter();
-    var prefix = String.format("%s/%s", environment, version);
-    var template = String.format("%s/%s", prefix, file);
+  public static String parse(TemplateContext context, String file, Map<String, Object> values) {
+    return render(context.identity(file), variables(context, values));
+  }
 
-    try (var stream = Template.class.getClassLoader().getResourceAsStream(template)) {
-      if (stream == null) {
-        var m = String.format("error parsing template! can not find %s.", template);
-        throw new RuntimeException(m);
-      }
+  /**
+   * Renders {@code file} and binds it to {@code type} without materializing the rendered document as a {@code String}.
+   */
+  public static <T> T read(Construct scope, String file, Class<T> type) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(type), Map.of());
+  }
 
-      assemble(stream, template, values, factory, writer);
-    }
+  public static <T> T read(Construct scope, String file, Class<T> type, Map<String, Object> values) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(type), values);
+  }
+
+  public static <T> T read(Construct scope, String file, TypeReference<T> type) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(type), Map.of());
+  }
+
+  public static <T> T read(Construct scope, String file, TypeReference<T> type, Map<String, Object> values) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(type), values);
+  }
+
+  /**
+   * Renders {@code file} into a tree without materializing the rendered document as a {@code String}.
+   */
+  public static JsonNode tree(Construct scope, String file) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(JsonNode.class), Map.of());
+  }
+
+  public static JsonNode tree(Construct scope, String file, Map<String, Object> values) {
+    return read(TemplateContext.of(scope), file, Mapper.get().constructType(JsonNode.class), values);
+  }
+
+  private static <T> T read(TemplateContext context, String file, JavaType type, Map<String, Object> values) {
+    return read(context.identity(file), variables(context, values), type);
+  }
+
+  /**
+   * The effective variable map a template is executed against: the context defaults overridden by {@code values}.
+   */
+  static Map<String, Object> variables(TemplateContext context, Map<String, Object> values) {
+    return Maps.from(context.values(), values);
+  }
+
+  @SneakyThrows
+  static String render(String template, Map<String, Object> values) {
+    log.debug("parsing template {} with parameters {}", template, values);
+    TemplateIndex.get().validate(template, values);
+
+    var started = System.nanoTime();
+    var writer = new StringWriter();
+    TemplateCache.get().get(template, Template::compile).execute(writer, values).flush();
+    Profiler.template(System.nanoTime() - started);
 
     return writer.toString();
   }
 
   protected static Map<String, Object> defaults(Construct scope) {
-    var home = Optional.of(scope).map(s -> s.getNode().tryGetContext("home")).map(Object::toString).orElse("/");
-
-    var synthesizer =
-      Optional.of(scope).map(s -> s.getNode().tryGetContext("hosted:synthesizer:name")).map(Object::toString).orElseGet(Common::id_);
-
-    var d = Map.<String, Object>ofEntries(Map.entry("home", home), Map.entry("synthesizer:name", synthesizer),
-      Map.entry("host:id", scope.getNode().getContext("host:id").toString()),
-      Map.entry("host:organization", scope.getNode().getContext("host:organization").toString()),
-      Map.entry("host:account", scope.getNode().getContext("host:account").toString()),
-      Map.entry("host:region", scope.getNode().getContext("host:region").toString()),
-      Map.entry("host:name", scope.getNode().getContext("host:name").toString()),
-      Map.entry("host:alias", scope.getNode().getContext("host:alias").toString()),
-      Map.entry("host:environment", scope.getNode().getContext("host:environment").toString()),
-      Map.entry("host:version", scope.getNode().getContext("host:version").toString()),
-      Map.entry("host:domain", scope.getNode().getContext("host:domain").toString()),
-      Map.entry("hosted:id", scope.getNode().getContext("hosted:id").toString()),
-      Map.entry("hosted:organization", scope.getNode().getContext("hosted:organization").toString()),
-      Map.entry("hosted:account", scope.getNode().getContext("hosted:account").toString()),
-      Map.entry("hosted:region", scope.getNode().getContext("hosted:region").toString()),
-      Map.entry("hosted:name", scope.getNode().getContext("hosted:name").toString()),
-      Map.entry("hosted:alias", scope.getNode().getContext("hosted:alias").toString()),
-      Map.entry("hosted:environment", scope.getNode().getContext("hosted:environment").toString()),
-      Map.entry("hosted:version", scope.getNode().getContext("hosted:version").toString()),
-      Map.entry("hosted:domain", scope.getNode().getContext("hosted:domain").toString()));
+    var d = TemplateContext.of(scope).values();
 
     log.debug("default template variables [defaults: {}]", d);
 
     return d;
   }
 
+  /**
+   * Streaming counterpart of {@link #render}: mustache writes into the calling thread's pooled {@link TemplateBuffer} and the YAML parser
+   * reads directly from that buffer.
+   */
   @SneakyThrows
-  protected static void assemble(InputStream stream, String template, Map<String, Object> values, DefaultMustacheFactory factory,
-    StringWriter writer) {
-    factory.compile(new InputStreamReader(stream, StandardCharsets.UTF_8), template).execute(writer, values).flush();
+  static <T> T read(String template, Map<String, Object> values, JavaType type) {
+    log.debug("reading template {} as {} with parameters {}", template, type, values);
+    TemplateIndex.get().validate(template, values);
+
+    try (var buffer = TemplateBuffer.acquire()) {
+      var started = System.nanoTime();
+      TemplateCache.get().get(template, Template::compile).execute(buffer, values).flush();
+      var rendered = System.nanoTime();
+      Profiler.template(rendered - started);
+
+      try (var parser = Mapper.get().getFactory().createParser(buffer.chars(), 0, buffer.length())) {
+        return Mapper.get().readValue(parser, type);
+      } finally {
+        Profiler.bind(System.nanoTime() - rendered);
+      }
+    }
+  }
+
+  @SneakyThrows
+  protected static Mustache compile(String template) {
+    try (var stream = Template.class.getClassLoader().getResourceAsStream(template)) {
+      if (stream == null) {
+        var m = String.format("error parsing template! can not find %s.", template);
+        throw new RuntimeException(m);
+      }
+
+      log.debug("compiling template {}", template);
+
+      return TemplateCache.get().factory().compile(new InputStreamReader(stream, StandardCharsets.UTF_8), template);
+    }
   }
 }
@@ -0,0 +1,59 @@
+package io.stxkxs.execute.serialization;
+
+import java.io.CharArrayWriter;
+
+/**
+ * Reusable render target for the streaming template path.
+ *
+ * <p>
+ * Rendered output is written straight into the backing char array and handed to the YAML parser from there, so no intermediate
+ * {@code String} is built. One buffer is kept per thread and reset between renders; buffers that grew past {@link #RETAINED_CAPACITY}
+ * while rendering an unusually large document are dropped rather than pinned for the lifetime of the thread.
+ */
+final class TemplateBuffer extends CharArrayWriter {
+  static final int INITIAL_CAPACITY = 8 * 1024;
+  static final int RETAINED_CAPACITY = 1024 * 1024;
+
+  private static final ThreadLocal<TemplateBuffer> pool = ThreadLocal.withInitial(TemplateBuffer::new);
+
+  private boolean leased;
+
+  private TemplateBuffer() {
+    super(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Leases the calling thread's buffer. A nested lease on the same thread gets a fresh, unpooled buffer.
+   */
+  static TemplateBuffer acquire() {
+    var buffer = pool.get();
+    if (buffer.leased) {
+      return new TemplateBuffer();
+    }
+
+    buffer.leased = true;
+    return buffer;
+  }
+
+  char[] chars() {
+    return buf;
+  }
+
+  int length() {
+    return count;
+  }
+
+  @Override
+  public void close() {
+    reset();
+
+    if (!leased) {
+      return;
+    }
+
+    leased = false;
+    if (buf.length > RETAINED_CAPACITY) {
+      pool.remove();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package io.stxkxs.execute.serialization;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide, thread-safe cache of compiled mustache templates keyed by {@code {environment}/{version}/{file}}.
+ *
+ * <p>
+ * Compiling a template means locating it on the classpath, reading it and building the mustache code tree. Only the execution of a
+ * compiled template depends on the variables passed to {@link Template#parse}, so the compiled form is shared across every construct,
+ * stack and thread of a synth. Entries are evicted in least-recently-used order once {@link #maximumSize()} is reached.
+ *
+ * <p>
+ * The maximum size defaults to {@value #DEFAULT_MAXIMUM_SIZE} and can be changed with the {@code cdk.common.template.cache.size} system
+ * property or at runtime through {@link #maximumSize(int)}. A size of {@code 0} disables caching.
+ *
+ * <p>
+ * Templates are compiled with the cache's {@link #factory()}, which keeps its own cache of compiled partials. {@link #clear()} replaces
+ * the factory together with the compiled templates and resets the statistics.
+ *
+ * <pre>{@code
+ * TemplateCache.get().maximumSize(512);
+ * var stats = TemplateCache.get().stats();
+ * log.info("template cache [hits: {} misses: {}]", stats.hits(), stats.misses());
+ * }</pre>
+ *
+ * @see Template for template resolution and execution
+ */
+@Slf4j
+public final class TemplateCache {
+  public static final int DEFAULT_MAXIMUM_SIZE = 256;
+  public static final String MAXIMUM_SIZE_PROPERTY = "cdk.common.template.cache.size";
+
+  private static final TemplateCache instance = new TemplateCache(Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final LinkedHashMap<String, Mustache> compiled;
+  private int maximumSize;
+  private DefaultMustacheFactory factory = new DefaultMustacheFactory();
+
+  TemplateCache(int maximumSize) {
+    this.maximumSize = Math.max(0, maximumSize);
+    this.compiled = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Mustache> eldest) {
+        if (size() > TemplateCache.this.maximumSize) {
+          evictions.incrementAndGet();
+          log.trace("evicting compiled template {}", eldest.getKey());
+          return true;
+        }
+
+        return false;
+      }
+    };
+  }
+
+  public static TemplateCache get() {
+    return instance;
+  }
+
+  /**
+   * Returns the compiled template for {@code key}, compiling it with {@code compiler} on a miss. Compilation happens outside the cache
+   * lock so concurrent misses on different templates do not serialize; if two threads race on the same key the first stored result wins.
+   */
+  public Mustache get(String key, Function<String, Mustache> compiler) {
+    synchronized (this) {
+      var mustache = compiled.get(key);
+      if (mustache != null) {
+        hits.incrementAndGet();
+        return mustache;
+      }
+    }
+
+    misses.incrementAndGet();
+    var mustache = compiler.apply(key);
+
+    synchronized (this) {
+      if (maximumSize == 0) {
+        return mustache;
+      }
+
+      var existing = compiled.putIfAbsent(key, mustache);
+      return existing != null ? existing : mustache;
+    }
+  }
+
+  public synchronized int maximumSize() {
+    return maximumSize;
+  }
+
+  public synchronized TemplateCache maximumSize(int maximumSize) {
+    this.maximumSize = Math.max(0, maximumSize);
+
+    var iterator = compiled.entrySet().iterator();
+    while (compiled.size() > this.maximumSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      evictions.incrementAndGet();
+    }
+
+    return this;
+  }
+
+  /**
+   * The factory compiling templates and their partials.
+   */
+  public synchronized DefaultMustacheFactory factory() {
+    return factory;
+  }
+
+  public synchronized void clear() {
+    compiled.clear();
+    factory = new DefaultMustacheFactory();
+    hits.set(0);
+    misses.set(0);
+    evictions.set(0);
+  }
+
+  public synchronized Stats stats() {
+    return new Stats(hits.get(), misses.get(), evictions.get(), compiled.size(), maximumSize);
+  }
+
+  public record Stats(long hits, long misses, long evictions, int size, int maximumSize) {}
+}
@@ -0,0 +1,189 @@
+package io.stxkxs.execute.serialization;
+
+import io.stxkxs.execute.profile.Profiler;
+import io.stxkxs.model._main.Common;
+import io.stxkxs.model._main.Environment;
+import io.stxkxs.model._main.Version;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awscdk.Stack;
+import software.constructs.Construct;
+
+/**
+ * Immutable snapshot of the context values every template is rendered against.
+ *
+ * <p>
+ * Each {@code scope.getNode().getContext(...)} is a JSII round-trip to the node process, and building the template defaults takes one per
+ * {@code host:*} and {@code hosted:*} key. The snapshot reads them once per {@link Stack} and is shared by every {@link Template} and
+ * {@link ConfigLoader} call made under that stack. Snapshots are held weakly, so they go away with the stack.
+ *
+ * <p>
+ * Because the snapshot is read from the stack, context set with {@code setContext} on a construct below the stack is not seen by
+ * templates rendered under it; set template context on the app or the stack. A scope outside any stack gets its own snapshot, read from
+ * the scope itself.
+ *
+ * <p>
+ * A context can also be built from a plain map with {@link #of(Map)}, which lets templates be rendered off the construct tree, for example
+ * from worker threads or benchmarks.
+ *
+ * <pre>{@code
+ * var context = TemplateContext.of(scope);
+ * var rendered = Template.parse(context, "eks/rbac.mustache", Map.of("namespace", "monitoring"));
+ * var stats = TemplateContext.stats();
+ * log.info("template context [lookups: {} saved: {}]", stats.lookups(), stats.saved());
+ * }</pre>
+ *
+ * @see Template for rendering against a context
+ */
+@Slf4j
+@Getter
+public final class TemplateContext {
+  static final List<String> KEYS = List.of("host:id", "host:organization", "host:account", "host:region", "host:name", "host:alias",
+    "host:environment", "host:version", "host:domain", "hosted:id", "hosted:organization", "hosted:account", "hosted:region", "hosted:name",
+    "hosted:alias", "hosted:environment", "hosted:version", "hosted:domain");
+
+  /**
+   * Context flag that restores a random synthesizer name when {@code hosted:synthesizer:name} is not set.
+   */
+  public static final String RANDOM_ID = "synth:id:random";
+
+  private static final Map<Construct, TemplateContext> contexts = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final AtomicLong lookups = new AtomicLong();
+  private static final AtomicLong saved = new AtomicLong();
+
+  private final Map<String, Object> values;
+  private final Environment environment;
+  private final Version version;
+
+  /**
+   * Resource name prefix used by {@link Format#named} and {@link Format#exported}: {@code hosted:synthesizer:name} when set, otherwise
+   * {@code host:id}.
+   */
+  private final String prefix;
+
+  /**
+   * Context lookups the snapshot made, and so the lookups each reuse of it saves.
+   */
+  private final int reads;
+
+  private TemplateContext(Map<String, Object> values, String prefix, int reads) {
+    this.values = Collections.unmodifiableMap(values);
+    this.prefix = prefix;
+    this.reads = reads;
+    this.environment = Environment.of(values.get("host:environment"));
+    this.version = Version.of(values.get("host:version"));
+  }
+
+  /**
+   * Returns the snapshot for the stack enclosing {@code scope}, or for {@code scope} itself when it is not inside a stack, reading the
+   * context on first use.
+   */
+  public static TemplateContext of(Construct scope) {
+    var stack = anchor(scope);
+
+    var existing = contexts.get(stack);
+    if (existing != null) {
+      saved.addAndGet(existing.reads());
+      Profiler.register(scope);
+      return existing;
+    }
+
+    Profiler.attach(stack);
+    var context = snapshot(stack);
+    var stored = contexts.putIfAbsent(stack, context);
+
+    log.debug("template context snapshot for {} [lookups: {} saved: {}]", stack.getNode().getPath(), lookups.get(), saved.get());
+    Profiler.register(scope);
+
+    return stored != null ? stored : context;
+  }
+
+  /**
+   * Builds a context from already resolved values. Every key in {@link #KEYS} is required; {@code home} defaults to {@code /} and
+   * {@code synthesizer:name} to the same name a stack with these values gets, see {@link #synthesizer}.
+   */
+  public static TemplateContext of(Map<String, Object> context) {
+    var values = new LinkedHashMap<String, Object>();
+    values.put("home", Optional.ofNullable(context.get("home")).map(Object::toString).orElse("/"));
+    KEYS.forEach(key -> values.put(key, Optional.ofNullable(context.get(key)).map(Object::toString).orElseThrow(() -> {
+      var m = String.format("error creating template context! missing %s.", key);
+      return new RuntimeException(m);
+    })));
+
+    var synthesizer = context.get("synthesizer:name");
+    values.put("synthesizer:name", synthesizer(synthesizer, () -> context.get(RANDOM_ID), values));
+
+    return new TemplateContext(values, synthesizer != null ? synthesizer.toString() : values.get("host:id").toString(), 0);
+  }
+
+  private static Construct anchor(Construct scope) {
+    try {
+      return Stack.of(scope);
+    } catch (RuntimeException e) {
+      log.trace("no stack encloses {}, reading its context directly", scope.getNode().getPath());
+      return scope;
+    }
+  }
+
+  private static TemplateContext snapshot(Construct scope) {
+    var node = scope.getNode();
+
+    var values = new LinkedHashMap<String, Object>();
+    values.put("home", Optional.ofNullable(node.tryGetContext("home")).map(Object::toString).orElse("/"));
+    KEYS.forEach(key -> values.put(key, node.getContext(key).toString()));
+
+    var synthesizer = node.tryGetContext("hosted:synthesizer:name");
+    var read = new int[] {KEYS.size() + 2};
+    values.put("synthesizer:name", synthesizer(synthesizer, () -> {
+      read[0]++;
+      return node.tryGetContext(RANDOM_ID);
+    }, values));
+
+    lookups.addAndGet(read[0]);
+    Profiler.context(read[0]);
+
+    return new TemplateContext(values, synthesizer != null ? synthesizer.toString() : values.get("host:id").toString(), read[0]);
+  }
+
+  /**
+   * The synthesizer name for both {@link #of(Construct)} and {@link #of(Map)}: the configured name when set, otherwise an id seeded from
+   * {@code host:id} and {@code hosted:id} only, so the same host and hosted pair renders the same name whether a template is rendered
+   * from a stack, a benchmark or a test, and across synths. Random when {@link #RANDOM_ID} is set.
+   */
+  private static String synthesizer(Object configured, Supplier<Object> random, Map<String, Object> values) {
+    if (configured != null) {
+      return configured.toString();
+    }
+
+    if (Boolean.parseBoolean(String.valueOf(random.get()))) {
+      return Common.id_();
+    }
+
+    return Common.stableId(values.get("host:id").toString(), values.get("hosted:id").toString());
+  }
+
+  /**
+   * Template identity for {@code file}: {@code {environment}/{version}/{file}}.
+   */
+  public String identity(String file) {
+    return String.format("%s/%s/%s", environment, version, file);
+  }
+
+  public static void clear() {
+    contexts.clear();
+  }
+
+  public static Stats stats() {
+    return new Stats(lookups.get(), saved.get(), contexts.size());
+  }
+
+  public record Stats(long lookups, long saved, int size) {}
+}
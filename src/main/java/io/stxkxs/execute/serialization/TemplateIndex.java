@@ -0,0 +1,117 @@
+package io.stxkxs.execute.serialization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Build-time index of the templates on the classpath, written by {@link TemplateIndexer} to {@code META-INF/cdk-common/templates.idx}.
+ *
+ * <p>
+ * Each line is {@code path<TAB>sha256<TAB>variable,variable,...}, where the variables are the values a template renders outside of any
+ * section. Every index resource on the classpath is merged, so each jar can ship the index for its own templates. When an index is present
+ * {@link Template} uses it to reject a render that is missing a required variable before the template is executed; without an index the
+ * behaviour is unchanged.
+ *
+ * <p>
+ * The index only feeds that validation. Templates are still located and read through the classpath when {@link Template} first compiles
+ * them, so the recorded hash identifies the indexed source but is not used to resolve it.
+ *
+ * @see TemplateIndexer for generating the index
+ */
+@Slf4j
+public final class TemplateIndex {
+  public static final String LOCATION = "META-INF/cdk-common/templates.idx";
+
+  private static final TemplateIndex instance = load();
+
+  private final Map<String, Entry> entries;
+
+  private TemplateIndex(Map<String, Entry> entries) {
+    this.entries = Collections.unmodifiableMap(entries);
+  }
+
+  public static TemplateIndex get() {
+    return instance;
+  }
+
+  /**
+   * An index over {@code entries} alone, e.g. the result of {@link TemplateIndexer#index}, without reading the classpath.
+   */
+  public static TemplateIndex of(Collection<Entry> entries) {
+    var indexed = new HashMap<String, Entry>();
+    entries.forEach(entry -> indexed.put(entry.path(), entry));
+    return new TemplateIndex(indexed);
+  }
+
+  public boolean present() {
+    return !entries.isEmpty();
+  }
+
+  public Optional<Entry> entry(String template) {
+    return Optional.ofNullable(entries.get(template));
+  }
+
+  /**
+   * Fails when {@code template} is indexed and one of its required variables is not in {@code values}. Templates that are not indexed are
+   * not checked.
+   */
+  public void validate(String template, Map<String, Object> values) {
+    var entry = entries.get(template);
+    if (entry == null) {
+      return;
+    }
+
+    var missing = entry.variables().stream().filter(v -> !values.containsKey(v) && !values.containsKey(v.split("\\.", 2)[0])).toList();
+    if (!missing.isEmpty()) {
+      var m = String.format("error parsing template! %s is missing required variables %s.", template, missing);
+      throw new RuntimeException(m);
+    }
+  }
+
+  public static Entry parse(String line) {
+    var fields = line.split("\t", -1);
+    if (fields.length != 3) {
+      var m = String.format("error reading template index! malformed entry %s.", line);
+      throw new RuntimeException(m);
+    }
+
+    var variables = fields[2].isEmpty() ? Set.<String>of() : Set.of(fields[2].split(","));
+    return new Entry(fields[0], fields[1], variables);
+  }
+
+  private static TemplateIndex load() {
+    var entries = new HashMap<String, Entry>();
+
+    try {
+      var resources = TemplateIndex.class.getClassLoader().getResources(LOCATION);
+      for (var url : Collections.list(resources)) {
+        try (var reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+          reader.lines().filter(line -> !line.isBlank() && !line.startsWith("#")).map(TemplateIndex::parse)
+            .forEach(entry -> entries.put(entry.path(), entry));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    log.debug("loaded template index [templates: {}]", entries.size());
+
+    return new TemplateIndex(entries);
+  }
+
+  public record Entry(String path, String hash, Set<String> variables) {
+    public String line() {
+      return String.join("\t", path, hash, String.join(",", variables.stream().sorted().toList()));
+    }
+  }
+}
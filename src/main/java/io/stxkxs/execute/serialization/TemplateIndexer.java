@@ -0,0 +1,119 @@
+package io.stxkxs.execute.serialization;
+
+import com.github.mustachejava.Code;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.codes.ValueCode;
+import io.stxkxs.model._main.Environment;
+import io.stxkxs.model._main.Version;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Build-time step that compiles every template under {@code {environment}/{version}/} in a classes directory and writes the
+ * {@link TemplateIndex} into it, so a bad template fails the build instead of the synth.
+ *
+ * <pre>{@code
+ * mvn -P template-index process-classes
+ * java -cp ... io.stxkxs.execute.serialization.TemplateIndexer target/classes [target/classes/META-INF/cdk-common/templates.idx]
+ * }</pre>
+ *
+ * <p>
+ * Nothing is written when the directory holds no templates. This library ships no templates of its own, so the {@code template-index}
+ * profile is a no-op here; it is meant to be copied into the projects that hold the {@code {environment}/{version}/} resources, see
+ * {@code docs/build-process/template-system.md}.
+ */
+@Slf4j
+public final class TemplateIndexer {
+
+  private TemplateIndexer() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      throw new IllegalArgumentException("usage: TemplateIndexer <classes directory> [index file]");
+    }
+
+    var root = Path.of(args[0]);
+    var output = args.length > 1 ? Path.of(args[1]) : root.resolve(TemplateIndex.LOCATION);
+
+    var entries = index(root);
+    if (entries.isEmpty()) {
+      log.info("no templates found under {}, skipping template index", root);
+      return;
+    }
+
+    Files.createDirectories(output.getParent());
+    Files.write(output, entries.stream().map(TemplateIndex.Entry::line).toList(), StandardCharsets.UTF_8);
+
+    log.info("indexed {} templates into {}", entries.size(), output);
+  }
+
+  /**
+   * Compiles every template below {@code root}. Fails on the first template that does not compile, naming it.
+   */
+  public static List<TemplateIndex.Entry> index(Path root) throws IOException {
+    var factory = new DefaultMustacheFactory(root.toFile());
+    var entries = new ArrayList<TemplateIndex.Entry>();
+
+    try (var files = Files.walk(root)) {
+      for (var file : files.filter(Files::isRegularFile).sorted().toList()) {
+        var path = root.relativize(file).toString().replace(File.separatorChar, '/');
+        if (!templated(path)) {
+          continue;
+        }
+
+        try {
+          var mustache = factory.compile(path);
+          var hash = DigestUtils.sha256Hex(Files.readAllBytes(file));
+          entries.add(new TemplateIndex.Entry(path, hash, variables(mustache.getCodes())));
+        } catch (RuntimeException e) {
+          var m = String.format("error compiling template %s! %s", path, e.getMessage());
+          throw new RuntimeException(m, e);
+        }
+      }
+    }
+
+    return entries;
+  }
+
+  /**
+   * Only paths laid out the way {@link Template} resolves them: {@code {environment}/{version}/...}.
+   */
+  private static boolean templated(String path) {
+    var segments = path.split("/");
+    if (segments.length < 3) {
+      return false;
+    }
+
+    return names(Environment.values()).contains(segments[0]) && names(Version.values()).contains(segments[1]);
+  }
+
+  private static Set<String> names(Enum<?>[] values) {
+    return Arrays.stream(values).map(Object::toString).collect(Collectors.toSet());
+  }
+
+  /**
+   * Values rendered outside of any section. Names used inside a section can resolve against the section item, and a missing section just
+   * renders nothing, so neither is required.
+   */
+  private static Set<String> variables(Code[] codes) {
+    var variables = new TreeSet<String>();
+    for (var code : codes) {
+      if (code instanceof ValueCode && code.getName() != null) {
+        variables.add(code.getName());
+      }
+    }
+
+    return variables;
+  }
+}
@@ -0,0 +1,110 @@
+package io.stxkxs.execute.tags;
+
+import io.stxkxs.execute.profile.Profiler;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import software.amazon.awscdk.AspectOptions;
+import software.amazon.awscdk.AspectPriority;
+import software.amazon.awscdk.Aspects;
+import software.amazon.awscdk.IAspect;
+import software.amazon.awscdk.ITaggable;
+import software.amazon.awscdk.ITaggableV2;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.TagManager;
+import software.amazon.jsii.JsiiObject;
+import software.amazon.jsii.Kernel;
+import software.amazon.jsii.NativeType;
+import software.constructs.IConstruct;
+
+/**
+ * Collects the tags each construct should carry and applies all of them with a single aspect.
+ *
+ * <p>
+ * {@code Tags.of(construct).add(key, value)} registers one aspect per key per construct, and each of those walks the whole subtree of its
+ * construct at synth time. A loop over a tag map therefore costs one JSII call and one tree walk per key. {@link #add} instead records the
+ * tags in memory, and one aspect registered on the target's stack walks that stack once, merging the tags registered on a construct and
+ * its ancestors and setting them on every taggable resource.
+ *
+ * <p>
+ * Tags are applied the way {@code Tags.of(...).add(...)} applies them, with priority 100 and propagated to launched instances. Tags
+ * registered on a construct override the same key registered on an ancestor; for the same construct the last registration wins.
+ *
+ * <p>
+ * The aspect lives on the stack rather than the app because aspects do not cross {@code Stage} boundaries, so stacks synthesized inside
+ * a stage (e.g. by CDK pipelines) still get their tags, and each aspect only walks its own stack rather than the whole app. A nested stack
+ * gets its own aspect, which runs after the parent stack's, so tags registered inside it still win.
+ *
+ * <pre>{@code
+ * Tagging.add(this.key(), common.tags());
+ * Tagging.add(this.bucket(), Maps.from(common.tags(), conf.tags()));
+ * }</pre>
+ */
+public final class Tagging implements IAspect {
+  private static final int PRIORITY = 100;
+  private static final Map<IConstruct, Tagging> stacks = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Map<IConstruct, Map<String, String>> registered = Collections.synchronizedMap(new IdentityHashMap<>());
+
+  private Tagging() {}
+
+  /**
+   * Registers {@code tags} for {@code target} and everything beneath it.
+   */
+  public static void add(IConstruct target, Map<String, String> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return;
+    }
+
+    var tagging = stacks.computeIfAbsent(Stack.of(target), stack -> {
+      var aspect = new Tagging();
+      Aspects.of(stack).add(aspect, AspectOptions.builder().priority(AspectPriority.MUTATING).build());
+      return aspect;
+    });
+
+    tagging.registered.merge(target, new LinkedHashMap<>(tags), (existing, added) -> {
+      existing.putAll(added);
+      return existing;
+    });
+
+    Profiler.register(target);
+    Profiler.tags(tags.size());
+  }
+
+  @Override
+  public void visit(IConstruct node) {
+    if (registered.isEmpty()) {
+      return;
+    }
+
+    var tags = new LinkedHashMap<String, String>();
+    for (var scope : node.getNode().getScopes()) {
+      var scoped = registered.get(scope);
+      if (scoped != null) {
+        tags.putAll(scoped);
+      }
+    }
+
+    if (tags.isEmpty()) {
+      return;
+    }
+
+    if (TagManager.isTaggable(node)) {
+      var manager = node instanceof ITaggable taggable ? taggable.getTags() : manager(node, "tags");
+      tags.forEach((key, value) -> manager.setTag(key, value, PRIORITY, true));
+    } else if (TagManager.isTaggableV2(node)) {
+      var manager = node instanceof ITaggableV2 taggable ? taggable.getCdkTagManager() : manager(node, "cdkTagManager");
+      tags.forEach((key, value) -> manager.setTag(key, value, PRIORITY, true));
+    }
+  }
+
+  /**
+   * Resources created on the node side (e.g. the L1 behind an L2) reach Java as plain construct proxies, so their tag manager is read
+   * through the kernel rather than through a Java cast.
+   */
+  private static TagManager manager(IConstruct node, String property) {
+    return Kernel.get((JsiiObject) node, property, NativeType.forClass(TagManager.class));
+  }
+}
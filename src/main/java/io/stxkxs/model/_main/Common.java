@@ -41,6 +41,7 @@ import org.apache.commons.lang3.StringUtils;
  * <li><b>Base32 Encoding</b> - URL-safe encoding with case normalization</li>
  * <li><b>AWS Compliance</b> - Ensures first character is alphabetic for AWS resource naming</li>
  * <li><b>Collision Resistance</b> - Cryptographically secure hash ensures uniqueness</li>
+ * <li><b>Seeded IDs</b> - Short deterministic identifiers derived from stable context values</li>
  * <li><b>Random IDs</b> - SecureRandom-based generation for temporary identifiers</li>
  * </ul>
  *
@@ -106,11 +107,13 @@ public record Common(String id, String account, String region, String organizati
   String version, String domain, Map<String, String> tags) {
 
   private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+  private static final int RANDOM_LENGTH = 10;
+  private static final SecureRandom random = new SecureRandom();
+  private static final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(Common::sha256);
+  private static final ThreadLocal<Base32> base32 = ThreadLocal.withInitial(Base32::new);
 
-  @SneakyThrows
   public static String id(String target) {
-    var digest = MessageDigest.getInstance("SHA-256");
-    var hashBytes = digest.digest(target.getBytes());
+    var hashBytes = digest.get().digest(target.getBytes());
 
     var encodedString = base32Encode(hashBytes);
     encodedString = StringUtils.substring(encodedString, 0, 15);
@@ -123,19 +126,33 @@ public record Common(String id, String account, String region, String organizati
     return encodedString.toLowerCase(Locale.ROOT);
   }
 
+  /**
+   * Random 10 letter id. Differs on every call, so anything rendered with it differs on every synth; prefer
+   * {@link #stableId(String...)} unless that is intended.
+   */
   public static String id_() {
-    var LENGTH = 10;
-    StringBuilder result = new StringBuilder(LENGTH);
-    for (int i = 0; i < LENGTH; i++) {
-      int index = new SecureRandom().nextInt(ALPHABET.length());
-      result.append(ALPHABET.charAt(index));
+    var result = new StringBuilder(RANDOM_LENGTH);
+    for (int i = 0; i < RANDOM_LENGTH; i++) {
+      result.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
     }
     return result.toString();
   }
 
+  /**
+   * Deterministic counterpart of {@link #id_()}: a 10 character id derived from {@code seeds} through
+   * {@link #id(String)}, so the same inputs give the same id on every synth.
+   */
+  public static String stableId(String... seeds) {
+    return id(String.join(":", seeds)).substring(0, RANDOM_LENGTH);
+  }
+
+  @SneakyThrows
+  private static MessageDigest sha256() {
+    return MessageDigest.getInstance("SHA-256");
+  }
+
   private static String base32Encode(byte[] bytes) {
-    var base32 = new Base32();
-    return base32.encodeAsString(bytes);
+    return base32.get().encodeAsString(bytes);
   }
 
   private static char replace(String encodedString) {
@@ -1,3 +1,3 @@
 package io.stxkxs.model.aws.dynamodb;
 
-public record Billing(boolean onDemand, FixedBilling fixed, ProvisionedBilling provisioned) {}
+public record Billing(boolean onDemand, FixedBilling fixed, ProvisionedBilling provisioned, Throughput maxThroughput) {}
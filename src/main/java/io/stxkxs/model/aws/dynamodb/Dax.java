@@ -0,0 +1,7 @@
+package io.stxkxs.model.aws.dynamodb;
+
+import io.stxkxs.model.aws.vpc.securitygroup.SecurityGroup;
+import java.util.Map;
+
+public record Dax(String name, String description, String nodeType, Integer replicationFactor, Long recordTtl, Long queryTtl,
+  String subnetType, SecurityGroup securityGroup, Map<String, String> tags) {}
@@ -0,0 +1,6 @@
+package io.stxkxs.model.aws.dynamodb;
+
+import java.util.Map;
+
+public record Replica(String region, Provisioned read, Integer maxRead, Map<String, Provisioned> indexRead, Boolean deletionProtection,
+  Boolean pointInTimeRecovery, Boolean contributorInsights, String kmsKeyArn) {}
@@ -5,4 +5,5 @@ import java.util.Map;
 
 public record Table(String name, SortKey partitionKey, SortKey sortKey, List<Index> localSecondaryIndexes,
   List<Index> globalSecondaryIndexes, Encryption encryption, Billing billing, String tableClass, Streams streams,
-  boolean contributorInsights, boolean deletionProtection, boolean pointInTimeRecovery, String removalPolicy, Map<String, String> tags) {}
+  boolean contributorInsights, boolean deletionProtection, boolean pointInTimeRecovery, String removalPolicy, Map<String, String> tags,
+  Dax dax, Throughput warmThroughput, List<Replica> replicas) {}
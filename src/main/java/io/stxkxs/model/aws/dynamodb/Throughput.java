@@ -0,0 +1,3 @@
+package io.stxkxs.model.aws.dynamodb;
+
+public record Throughput(Integer read, Integer write) {}
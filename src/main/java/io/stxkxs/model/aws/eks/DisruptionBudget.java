@@ -0,0 +1,5 @@
+package io.stxkxs.model.aws.eks;
+
+import java.util.List;
+
+public record DisruptionBudget(String nodes, String schedule, String duration, List<String> reasons) {}
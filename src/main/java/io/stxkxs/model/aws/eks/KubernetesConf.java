@@ -92,7 +92,8 @@ import java.util.Map;
  *   observabilityConfigJson, // monitoring stack
  *   clusterAnnotations, // Kubernetes annotations
  *   clusterLabels, // Kubernetes labels
- *   awsTags // AWS resource tags
+ *   awsTags, // AWS resource tags
+ *   nodePoolsConfigJson // karpenter node pools, or null
  * );
  * }</pre>
  *
@@ -126,8 +127,11 @@ import java.util.Map;
  *          Kubernetes labels for resource selection and organization
  * @param tags
  *          AWS resource tags for billing, management, and governance
+ * @param nodePools
+ *          Optional configuration for Karpenter node pools and EC2 node classes, applied once the Karpenter addon is installed
  * @author CDK Common Framework
  * @see NodeGroup for worker node configuration details
+ * @see NodePoolsConf for Karpenter provisioning
  * @see AddonsConf for add-on ecosystem configuration
  * @see ObservabilityConf for monitoring stack setup
  * @see TenancyConf for multi-tenant access patterns
@@ -135,4 +139,4 @@ import java.util.Map;
  */
 public record KubernetesConf(String name, String version, String endpointAccess, boolean prune, String rbac, String tenancy,
   List<String> loggingTypes, List<String> vpcSubnetTypes, String nodeGroups, String addons, String sqs, String observability,
-  Map<String, String> annotations, Map<String, String> labels, Map<String, String> tags) {}
+  Map<String, String> annotations, Map<String, String> labels, Map<String, String> tags, String nodePools) {}
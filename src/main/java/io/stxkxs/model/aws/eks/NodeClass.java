@@ -0,0 +1,6 @@
+package io.stxkxs.model.aws.eks;
+
+import java.util.Map;
+
+public record NodeClass(String name, String role, String amiAlias, String volumeSize, Map<String, String> subnetSelectorTags,
+  Map<String, String> securityGroupSelectorTags, Map<String, String> tags) {}
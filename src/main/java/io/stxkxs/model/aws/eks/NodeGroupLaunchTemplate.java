@@ -0,0 +1,4 @@
+package io.stxkxs.model.aws.eks;
+
+public record NodeGroupLaunchTemplate(String deviceName, Integer volumeSize, Integer iops, Integer throughput, String httpTokens,
+  Integer httpPutResponseHopLimit) {}
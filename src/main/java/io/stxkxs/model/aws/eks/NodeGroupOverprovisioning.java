@@ -0,0 +1,3 @@
+package io.stxkxs.model.aws.eks;
+
+public record NodeGroupOverprovisioning(Integer replicas, String cpu, String memory, Integer priority, String namespace) {}
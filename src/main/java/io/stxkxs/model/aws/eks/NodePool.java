@@ -0,0 +1,8 @@
+package io.stxkxs.model.aws.eks;
+
+import java.util.List;
+import java.util.Map;
+
+public record NodePool(String name, String nodeClass, List<String> instanceFamilies, List<String> instanceSizes,
+  List<String> capacityTypes, List<String> architectures, Map<String, String> limits, NodePoolDisruption disruption, String expireAfter,
+  Integer weight, Map<String, String> labels) {}
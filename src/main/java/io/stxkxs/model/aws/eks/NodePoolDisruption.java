@@ -0,0 +1,5 @@
+package io.stxkxs.model.aws.eks;
+
+import java.util.List;
+
+public record NodePoolDisruption(String consolidationPolicy, String consolidateAfter, List<DisruptionBudget> budgets) {}
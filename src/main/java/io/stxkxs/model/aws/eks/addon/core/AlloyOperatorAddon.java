@@ -1,5 +1,6 @@
 package io.stxkxs.model.aws.eks.addon.core;
 
 import io.stxkxs.model.aws.eks.HelmChart;
+import java.util.List;
 
-public record AlloyOperatorAddon(HelmChart chart) {}
+public record AlloyOperatorAddon(HelmChart chart, List<String> dependsOn) {}
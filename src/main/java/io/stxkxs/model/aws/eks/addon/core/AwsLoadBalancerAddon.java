@@ -2,5 +2,6 @@ package io.stxkxs.model.aws.eks.addon.core;
 
 import io.stxkxs.model.aws.eks.HelmChart;
 import io.stxkxs.model.aws.eks.ServiceAccountConf;
+import java.util.List;
 
-public record AwsLoadBalancerAddon(HelmChart chart, ServiceAccountConf serviceAccount) {}
+public record AwsLoadBalancerAddon(HelmChart chart, ServiceAccountConf serviceAccount, List<String> dependsOn) {}
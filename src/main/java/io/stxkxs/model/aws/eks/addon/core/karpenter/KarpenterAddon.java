@@ -2,5 +2,6 @@ package io.stxkxs.model.aws.eks.addon.core.karpenter;
 
 import io.stxkxs.model.aws.eks.HelmChart;
 import io.stxkxs.model.aws.eks.PodIdentity;
+import java.util.List;
 
-public record KarpenterAddon(HelmChart chart, PodIdentity podIdentity) {}
+public record KarpenterAddon(HelmChart chart, PodIdentity podIdentity, List<String> dependsOn) {}
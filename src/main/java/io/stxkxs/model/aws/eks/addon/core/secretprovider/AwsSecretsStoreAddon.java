@@ -1,5 +1,6 @@
 package io.stxkxs.model.aws.eks.addon.core.secretprovider;
 
 import io.stxkxs.model.aws.eks.HelmChart;
+import java.util.List;
 
-public record AwsSecretsStoreAddon(HelmChart chart) {}
+public record AwsSecretsStoreAddon(HelmChart chart, List<String> dependsOn) {}
@@ -1,5 +1,6 @@
 package io.stxkxs.model.aws.eks.addon.core.secretprovider;
 
 import io.stxkxs.model.aws.eks.HelmChart;
+import java.util.List;
 
-public record CsiSecretsStoreAddon(HelmChart chart) {}
+public record CsiSecretsStoreAddon(HelmChart chart, List<String> dependsOn) {}
@@ -0,0 +1,11 @@
+package io.stxkxs.model.aws.elasticache;
+
+import io.stxkxs.model.aws.kms.Kms;
+import io.stxkxs.model.aws.secretsmanager.SecretCredentials;
+import io.stxkxs.model.aws.vpc.securitygroup.SecurityGroup;
+import java.util.Map;
+
+public record CacheConf(String name, String description, String engine, String engineVersion, boolean serverless,
+  CacheUsageLimits usageLimits, String nodeType, boolean clusterMode, Integer shards, Integer replicas, boolean dataTiering,
+  boolean multiAz, Integer snapshotRetention, Integer port, String parameterGroup, String subnetType, SecurityGroup securityGroup,
+  Kms kms, SecretCredentials auth, Map<String, String> tags) {}
@@ -0,0 +1,3 @@
+package io.stxkxs.model.aws.elasticache;
+
+public record CacheUsageLimits(Integer maxStorage, Integer minStorage, Integer maxEcpu, Integer minEcpu) {}
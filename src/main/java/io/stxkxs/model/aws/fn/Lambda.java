@@ -7,4 +7,5 @@ import java.util.Map;
 import software.amazon.awscdk.services.lambda.Runtime;
 
 public record Lambda(String name, String description, String asset, String handler, String subnetType, int timeout, int memorySize,
-  Runtime runtime, IamRole role, List<Principal> invokers, List<LambdaLayer> layers, Map<String, String> environment) {}
+  Runtime runtime, IamRole role, List<Principal> invokers, List<LambdaLayer> layers, Map<String, String> environment, String architecture,
+  boolean snapStart, Integer reservedConcurrency, LambdaAlias alias) {}
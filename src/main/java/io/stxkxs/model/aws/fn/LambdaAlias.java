@@ -0,0 +1,3 @@
+package io.stxkxs.model.aws.fn;
+
+public record LambdaAlias(String name, Integer provisionedConcurrency, LambdaAutoscaling autoscaling) {}
@@ -0,0 +1,5 @@
+package io.stxkxs.model.aws.fn;
+
+import java.util.List;
+
+public record LambdaAutoscaling(int minCapacity, int maxCapacity, Double utilization, List<LambdaSchedule> schedules) {}
@@ -0,0 +1,3 @@
+package io.stxkxs.model.aws.fn;
+
+public record LambdaSchedule(String name, String expression, Integer minCapacity, Integer maxCapacity) {}
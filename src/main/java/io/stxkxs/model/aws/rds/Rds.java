@@ -6,4 +6,4 @@ import java.util.Map;
 
 public record Rds(String version, String name, String databaseName, SecretCredentials credentials, String storageType,
   boolean enableDataApi, RdsWriter writer, List<RdsReader> readers, boolean deletionProtection, String removalPolicy,
-  Map<String, String> tags) {}
+  Map<String, String> tags, RdsProxy proxy, Double minCapacity, Double maxCapacity, RdsReaderScaling readerScaling) {}
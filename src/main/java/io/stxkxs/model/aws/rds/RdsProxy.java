@@ -0,0 +1,6 @@
+package io.stxkxs.model.aws.rds;
+
+import java.util.List;
+
+public record RdsProxy(String name, Integer maxConnectionsPercent, Integer maxIdleConnectionsPercent, Integer borrowTimeout,
+  Integer idleClientTimeout, List<String> sessionPinningFilters, boolean iamAuth, boolean readOnlyEndpoint, boolean debugLogging) {}
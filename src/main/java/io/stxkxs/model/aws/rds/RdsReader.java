@@ -1,4 +1,4 @@
 package io.stxkxs.model.aws.rds;
 
 public record RdsReader(boolean allowMajorVersionUpgrade, boolean autoMinorVersionUpgrade, String name, boolean publiclyAccessible,
-  boolean scaleWithWriter, RdsPerformanceInsights performanceInsights) {}
+  boolean scaleWithWriter, RdsPerformanceInsights performanceInsights, Integer promotionTier, String instanceType) {}
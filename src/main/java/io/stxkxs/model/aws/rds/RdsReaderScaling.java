@@ -0,0 +1,4 @@
+package io.stxkxs.model.aws.rds;
+
+public record RdsReaderScaling(int minReaders, int maxReaders, String metric, double target, Integer scaleInCooldown,
+  Integer scaleOutCooldown) {}
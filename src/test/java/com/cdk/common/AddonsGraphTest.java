@@ -0,0 +1,77 @@
+package com.cdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.stxkxs.execute.aws.eks.AddonsConstruct;
+import io.stxkxs.execute.serialization.Mapper;
+import io.stxkxs.model.aws.eks.addon.AddonsConf;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the addon rollout order with and without declared dependencies.
+ */
+public class AddonsGraphTest {
+
+  @Test
+  public void testWithoutDependsOnKeepsSequentialOrder() {
+    var graph = AddonsConstruct.graph(addons("""
+      alloyOperator: {}
+      grafana: {}
+      certManager: {}
+      csiSecretsStore: {}
+      awsSecretsStore: {}
+      karpenter: {}
+      awsLoadBalancer: {}
+      """));
+
+    assertEquals(List.of("alloyOperator"), graph.get("grafana"), "grafana should wait for the alloy operator");
+    assertEquals(List.of("grafana", "certManager", "csiSecretsStore", "awsSecretsStore", "karpenter"), graph.get("awsLoadBalancer"),
+      "aws load balancer should wait for every addon before it");
+  }
+
+  @Test
+  public void testDeclaredDependsOnReplacesDefaultEdges() {
+    var graph = AddonsConstruct.graph(addons("""
+      alloyOperator: {}
+      grafana:
+        dependsOn: [alloyOperator]
+      certManager: {}
+      csiSecretsStore: {}
+      awsSecretsStore:
+        dependsOn: [csiSecretsStore]
+      karpenter: {}
+      awsLoadBalancer:
+        dependsOn: [certManager]
+      """));
+
+    assertEquals(List.of("alloyOperator"), graph.get("grafana"));
+    assertEquals(List.of("csiSecretsStore"), graph.get("awsSecretsStore"));
+    assertEquals(List.of("certManager"), graph.get("awsLoadBalancer"));
+  }
+
+  @Test
+  public void testPartialDependsOnKeepsDefaultEdgesForTheRest() {
+    var graph = AddonsConstruct.graph(addons("""
+      alloyOperator: {}
+      grafana: {}
+      certManager: {}
+      csiSecretsStore: {}
+      awsSecretsStore: {}
+      karpenter: {}
+      awsLoadBalancer:
+        dependsOn: [certManager]
+      """));
+
+    assertEquals(List.of("alloyOperator"), graph.get("grafana"), "grafana should keep waiting for the alloy operator");
+    assertEquals(List.of("grafana", "certManager", "csiSecretsStore", "awsSecretsStore"), graph.get("karpenter"),
+      "karpenter should keep its sequential dependencies");
+    assertEquals(List.of("certManager"), graph.get("awsLoadBalancer"), "aws load balancer should wait only for cert manager");
+  }
+
+  @SneakyThrows
+  private static AddonsConf addons(String yaml) {
+    return Mapper.get().readValue(yaml, AddonsConf.class);
+  }
+}
@@ -0,0 +1,94 @@
+package com.cdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import io.stxkxs.execute.serialization.TemplateCache;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies compiled templates are shared across calls and evicted in least-recently-used order.
+ */
+public class TemplateCacheTest {
+  private final DefaultMustacheFactory factory = new DefaultMustacheFactory();
+  private final AtomicInteger compilations = new AtomicInteger();
+
+  @AfterEach
+  public void reset() {
+    TemplateCache.get().maximumSize(TemplateCache.DEFAULT_MAXIMUM_SIZE).clear();
+  }
+
+  @Test
+  public void testCompilesOncePerKey() {
+    var cache = TemplateCache.get();
+    var before = cache.stats();
+
+    var first = cache.get("prototype/v1/cache/once.mustache", this::compile);
+    var second = cache.get("prototype/v1/cache/once.mustache", this::compile);
+
+    assertSame(first, second, "repeated lookups should return the same compiled template");
+    assertEquals(1, compilations.get(), "template should only be compiled once");
+    assertEquals(before.hits() + 1, cache.stats().hits(), "second lookup should be a hit");
+    assertEquals(before.misses() + 1, cache.stats().misses(), "first lookup should be a miss");
+  }
+
+  @Test
+  public void testExecutionStaysPerCall() {
+    var mustache = TemplateCache.get().get("prototype/v1/cache/execute.mustache", this::compile);
+
+    var a = new StringWriter();
+    var b = new StringWriter();
+    mustache.execute(a, Map.of("host:name", "alpha")).flush();
+    mustache.execute(b, Map.of("host:name", "beta")).flush();
+
+    assertEquals("name: alpha", a.toString());
+    assertEquals("name: beta", b.toString());
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    var cache = TemplateCache.get().maximumSize(2);
+    var evictions = cache.stats().evictions();
+
+    cache.get("prototype/v1/cache/a.mustache", this::compile);
+    cache.get("prototype/v1/cache/b.mustache", this::compile);
+    cache.get("prototype/v1/cache/a.mustache", this::compile);
+    cache.get("prototype/v1/cache/c.mustache", this::compile);
+
+    assertEquals(2, cache.stats().size(), "cache should be bounded by its maximum size");
+    assertEquals(evictions + 1, cache.stats().evictions(), "one entry should have been evicted");
+
+    cache.get("prototype/v1/cache/a.mustache", this::compile);
+    assertEquals(3, compilations.get(), "recently used entry should survive eviction");
+  }
+
+  @Test
+  public void testClearResetsEntriesStatsAndFactory() {
+    var cache = TemplateCache.get();
+    var factory = cache.factory();
+
+    cache.get("prototype/v1/cache/clear.mustache", this::compile);
+    cache.get("prototype/v1/cache/clear.mustache", this::compile);
+    cache.clear();
+
+    var stats = cache.stats();
+    assertEquals(0, stats.size(), "clear should drop every compiled template");
+    assertEquals(0, stats.hits(), "clear should reset hits");
+    assertEquals(0, stats.misses(), "clear should reset misses");
+    assertEquals(0, stats.evictions(), "clear should reset evictions");
+    assertNotSame(factory, cache.factory(), "clear should drop the factory's partial cache");
+  }
+
+  private Mustache compile(String key) {
+    compilations.incrementAndGet();
+    return factory.compile(new StringReader("name: {{host:name}}"), key);
+  }
+}
@@ -0,0 +1,86 @@
+package com.cdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.stxkxs.execute.serialization.TemplateIndex;
+import io.stxkxs.execute.serialization.TemplateIndexer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Verifies index entries round trip through their line format, templates are indexed from a classes directory and renders missing a
+ * required variable are rejected.
+ */
+public class TemplateIndexTest {
+
+  @Test
+  public void testEntryRoundTrip() {
+    var entry = new TemplateIndex.Entry("prototype/v1/eks/sqs.mustache", "abc123", Set.of("hosted:organization", "hosted:id"));
+
+    var line = entry.line();
+    assertEquals("prototype/v1/eks/sqs.mustache\tabc123\thosted:id,hosted:organization", line, "variables should be written sorted");
+    assertEquals(entry, TemplateIndex.parse(line), "parsed entry should match the written one");
+  }
+
+  @Test
+  public void testEntryWithoutVariables() {
+    var entry = TemplateIndex.parse("prototype/v1/eks/storage-class.yaml\tabc123\t");
+    assertEquals(Set.of(), entry.variables(), "static templates should have no variables");
+  }
+
+  @Test
+  public void testMalformedEntry() {
+    assertThrows(RuntimeException.class, () -> TemplateIndex.parse("prototype/v1/eks/sqs.mustache"));
+  }
+
+  @Test
+  public void testIndexesTemplates(@TempDir Path root) throws IOException {
+    write(root, "prototype/v1/eks/sqs.mustache", "name: {{hosted:id}}-{{hosted:organization}}\n{{#tags}}{{key}}{{/tags}}\n");
+    write(root, "prototype/v1/eks/storage-class.yaml", "provisioner: ebs.csi.aws.com\n");
+    write(root, "log4j2.xml", "<Configuration/>");
+    write(root, "prototype/sqs.mustache", "{{hosted:id}}");
+
+    var entries = TemplateIndexer.index(root);
+
+    assertEquals(List.of("prototype/v1/eks/sqs.mustache", "prototype/v1/eks/storage-class.yaml"),
+      entries.stream().map(TemplateIndex.Entry::path).toList(), "only {environment}/{version}/ templates should be indexed");
+    assertEquals(Set.of("hosted:id", "hosted:organization"), entries.get(0).variables(),
+      "section variables should not be required");
+    assertEquals(64, entries.get(0).hash().length(), "hash should be a sha-256 of the source");
+  }
+
+  @Test
+  public void testIndexFailsOnBrokenTemplate(@TempDir Path root) throws IOException {
+    write(root, "prototype/v1/eks/broken.mustache", "{{#tags}}{{key}}\n");
+
+    var e = assertThrows(RuntimeException.class, () -> TemplateIndexer.index(root));
+    assertTrue(e.getMessage().contains("prototype/v1/eks/broken.mustache"), "error should name the template");
+  }
+
+  @Test
+  public void testValidateRejectsMissingVariable() {
+    var index = TemplateIndex
+      .of(List.of(new TemplateIndex.Entry("prototype/v1/eks/sqs.mustache", "abc123", Set.of("hosted:id", "hosted:organization"))));
+
+    var e = assertThrows(RuntimeException.class, () -> index.validate("prototype/v1/eks/sqs.mustache", Map.of("hosted:id", "one")));
+    assertTrue(e.getMessage().contains("hosted:organization"), "error should name the missing variable");
+
+    assertDoesNotThrow(() -> index.validate("prototype/v1/eks/sqs.mustache", Map.of("hosted:id", "one", "hosted:organization", "org")));
+    assertDoesNotThrow(() -> index.validate("prototype/v1/eks/other.mustache", Map.of()), "templates not indexed should not be checked");
+  }
+
+  private static void write(Path root, String path, String content) throws IOException {
+    var file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}